@@ -17,7 +17,10 @@ import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -60,6 +63,29 @@ public class AssemblyFiles {
         return entries.stream().filter(AssemblyFileEntry::isUpdated).collect(Collectors.toList());
     }
 
+    /**
+     * Get the list of updated entries among the ones whose source is one of the provided changed files (or is
+     * contained in one of the provided changed directories). ATTENTION: As a side effect this method also
+     * updates the timestamp of updated entries.
+     *
+     * @param changedFiles files (or directories) reported as changed, e.g. by an {@link AssemblyFilesChangeDetector}
+     * @return list of the updated entries or an empty list
+     */
+    public List<AssemblyFileEntry> getUpdatedEntriesAndRefresh(Collection<File> changedFiles) {
+        final Set<File> changed = changedFiles.stream().map(File::getAbsoluteFile).collect(Collectors.toSet());
+        return entries.stream()
+            .filter(e -> {
+                final File source = e.getSource().getAbsoluteFile();
+                return changed.contains(source) || changed.contains(source.getParentFile());
+            })
+            .filter(AssemblyFileEntry::isUpdated)
+            .collect(Collectors.toList());
+    }
+
+    List<AssemblyFileEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
     /**
      * Returns true if there are no entries
      *
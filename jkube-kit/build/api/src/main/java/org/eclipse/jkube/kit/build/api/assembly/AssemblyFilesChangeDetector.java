@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.api.assembly;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jkube.kit.common.AssemblyFileEntry;
+
+/**
+ * Event driven change detector for {@link AssemblyFiles}.
+ *
+ * <p> Registers the directories containing the assembly sources in a native {@link WatchService} and notifies
+ * the provided listener with the files that changed. Bursts of events (e.g. a compilation writing many files)
+ * are coalesced: the listener is only notified once no further events are received within the debounce period.
+ *
+ * <p> Directories created within the watched ones are watched too, and the files they contain are notified as
+ * changed. Deleted files are notified as well, a deleted directory is notified once it stops being watched.
+ *
+ * <p> Use {@link #create(AssemblyFiles, long, Consumer)} to create a detector, it will be empty if native file
+ * watching is not available on the current platform, in which case changes should be detected by polling
+ * {@link AssemblyFiles#getUpdatedEntriesAndRefresh()}.
+ */
+public class AssemblyFilesChangeDetector implements Closeable {
+
+  private static final String POLLING_WATCH_SERVICE = "PollingWatchService";
+  private static final int MAX_DEBOUNCE_PERIODS = 10;
+
+  private final WatchService watchService;
+  private final long debounceMillis;
+  private final Consumer<Set<File>> listener;
+  private final Thread thread;
+  private volatile boolean closed;
+
+  AssemblyFilesChangeDetector(
+      WatchService watchService, Set<Path> directories, long debounceMillis, Consumer<Set<File>> listener)
+      throws IOException {
+
+    this.watchService = watchService;
+    this.debounceMillis = Math.max(0L, debounceMillis);
+    this.listener = listener;
+    for (Path directory : directories) {
+      register(directory);
+    }
+    thread = new Thread(this::run, "jkube-assembly-files-watcher");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Creates a change detector for the provided assembly files.
+   *
+   * @param assemblyFiles the assembly files to watch
+   * @param debounceMillis quiet period after the last event before the listener is notified
+   * @param listener notified (from the detector thread) with the set of changed files
+   * @return the detector or an empty Optional if native file watching is not available
+   * @throws IOException if the watched directories can't be registered
+   */
+  public static Optional<AssemblyFilesChangeDetector> create(
+      AssemblyFiles assemblyFiles, long debounceMillis, Consumer<Set<File>> listener) throws IOException {
+
+    final WatchService watchService;
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+    } catch (UnsupportedOperationException | IOException e) {
+      return Optional.empty();
+    }
+    // JDK falls back to a polling implementation with a fixed (and large) interval when native watching
+    // is not supported (e.g. macOS), polling the assembly files directly is preferable in that case
+    if (watchService.getClass().getSimpleName().equals(POLLING_WATCH_SERVICE)) {
+      watchService.close();
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(new AssemblyFilesChangeDetector(
+          watchService, getWatchedDirectories(assemblyFiles), debounceMillis, listener));
+    } catch (IOException e) {
+      watchService.close();
+      throw e;
+    }
+  }
+
+  static Set<Path> getWatchedDirectories(AssemblyFiles assemblyFiles) {
+    final Set<Path> directories = new LinkedHashSet<>();
+    for (AssemblyFileEntry entry : assemblyFiles.getEntries()) {
+      final File source = entry.getSource().getAbsoluteFile();
+      final File directory = source.isDirectory() ? source : source.getParentFile();
+      if (directory != null && directory.isDirectory()) {
+        directories.add(directory.toPath());
+      }
+    }
+    return directories;
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    watchService.close();
+    thread.interrupt();
+  }
+
+  private void run() {
+    try {
+      while (!closed) {
+        final Set<File> changedFiles = new LinkedHashSet<>();
+        collectEvents(watchService.take(), changedFiles);
+        final long deadline = System.currentTimeMillis() + debounceMillis * MAX_DEBOUNCE_PERIODS;
+        WatchKey next;
+        while (System.currentTimeMillis() < deadline
+            && (next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+          collectEvents(next, changedFiles);
+        }
+        if (!changedFiles.isEmpty()) {
+          listener.accept(changedFiles);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // Detector was closed
+    }
+  }
+
+  private void register(Path directory) throws IOException {
+    directory.register(watchService,
+        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+  }
+
+  private void collectEvents(WatchKey key, Set<File> changedFiles) {
+    final Path directory = (Path) key.watchable();
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        // Events were lost, report the directory so that all of its entries are checked
+        changedFiles.add(directory.toFile().getAbsoluteFile());
+      } else {
+        final Path changed = directory.resolve((Path) event.context());
+        changedFiles.add(changed.toFile().getAbsoluteFile());
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+          changedFiles.addAll(registerCreatedDirectory(changed));
+        }
+      }
+    }
+    if (!key.reset()) {
+      // Directory was deleted (or can no longer be watched), report it so that all of its entries are checked
+      changedFiles.add(directory.toFile().getAbsoluteFile());
+    }
+  }
+
+  // Files might be created in the new directory before it's registered, all of them are reported as changed
+  private Set<File> registerCreatedDirectory(Path createdDirectory) {
+    try (Stream<Path> paths = Files.walk(createdDirectory)) {
+      final Set<Path> created = paths.collect(Collectors.toCollection(LinkedHashSet::new));
+      for (Path path : created) {
+        if (Files.isDirectory(path)) {
+          register(path);
+        }
+      }
+      return created.stream().map(p -> p.toFile().getAbsoluteFile()).collect(Collectors.toCollection(LinkedHashSet::new));
+    } catch (IOException e) {
+      // Directory was deleted in between, nothing else to report
+      return new LinkedHashSet<>();
+    }
+  }
+}
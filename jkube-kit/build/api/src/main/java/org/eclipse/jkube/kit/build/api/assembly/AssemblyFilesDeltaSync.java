@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.api.assembly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.jkube.kit.common.AssemblyFileEntry;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Keeps track of the content of the assembly files shipped to a running container so that only the files whose
+ * content actually changed are shipped again.
+ *
+ * <p> File modification times alone are a poor indicator of change: a recompilation rewrites every class file
+ * and repackaging an artifact produces a new archive even if its content is identical. The content of every
+ * shipped file is digested and cached, archives (jar, war, ear, zip) are digested entry by entry ignoring the
+ * timestamps stored in the archive.
+ */
+public class AssemblyFilesDeltaSync {
+
+  private static final String[] ARCHIVE_EXTENSIONS = {".jar", ".war", ".ear", ".zip"};
+
+  private final Map<File, String> shippedDigests;
+  private final Map<File, String> pendingDigests;
+
+  public AssemblyFilesDeltaSync() {
+    shippedDigests = new ConcurrentHashMap<>();
+    pendingDigests = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Records the current content of all the assembly files as already shipped (e.g. as part of the image the
+   * container was created from).
+   *
+   * @param assemblyFiles the assembly files
+   * @throws IOException in case any of the files can't be read
+   */
+  public void seed(AssemblyFiles assemblyFiles) throws IOException {
+    for (AssemblyFileEntry entry : assemblyFiles.getEntries()) {
+      if (entry.getSource().isFile()) {
+        shippedDigests.put(key(entry), digest(entry.getSource()));
+      }
+    }
+  }
+
+  /**
+   * Returns the entries whose content differs from the last shipped version.
+   *
+   * <p> Once the returned entries are shipped, {@link #markShipped(Collection)} should be invoked so that they
+   * become the new baseline.
+   *
+   * @param entries entries reported as updated
+   * @return the entries whose content changed
+   * @throws IOException in case any of the files can't be read
+   */
+  public List<AssemblyFileEntry> getChangedEntries(Collection<AssemblyFileEntry> entries) throws IOException {
+    final List<AssemblyFileEntry> changed = new ArrayList<>();
+    for (AssemblyFileEntry entry : entries) {
+      if (!entry.getSource().isFile()) {
+        changed.add(entry);
+        continue;
+      }
+      final String digest = digest(entry.getSource());
+      if (!Objects.equals(digest, shippedDigests.get(key(entry)))) {
+        pendingDigests.put(key(entry), digest);
+        changed.add(entry);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Marks the provided entries as successfully shipped.
+   *
+   * @param entries entries previously returned by {@link #getChangedEntries(Collection)}
+   */
+  public void markShipped(Collection<AssemblyFileEntry> entries) {
+    for (AssemblyFileEntry entry : entries) {
+      final String digest = pendingDigests.remove(key(entry));
+      if (digest != null) {
+        shippedDigests.put(key(entry), digest);
+      }
+    }
+  }
+
+  private static File key(AssemblyFileEntry entry) {
+    return entry.getDest().getAbsoluteFile();
+  }
+
+  static String digest(File file) throws IOException {
+    if (isArchive(file)) {
+      try {
+        return digestArchive(file);
+      } catch (ZipException ex) {
+        // Not a valid archive, fall back to the raw content
+      }
+    }
+    return com.google.common.io.Files.asByteSource(file).hash(Hashing.sha256()).toString();
+  }
+
+  private static boolean isArchive(File file) {
+    final String name = file.getName().toLowerCase(Locale.ROOT);
+    for (String extension : ARCHIVE_EXTENSIONS) {
+      if (name.endsWith(extension)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String digestArchive(File file) throws IOException {
+    final SortedMap<String, String> entryDigests = new TreeMap<>();
+    try (InputStream is = Files.newInputStream(file.toPath()); ZipInputStream zis = new ZipInputStream(is)) {
+      ZipEntry zipEntry;
+      while ((zipEntry = zis.getNextEntry()) != null) {
+        final Hasher entryHasher = Hashing.sha256().newHasher();
+        ByteStreams.copy(zis, Funnels.asOutputStream(entryHasher));
+        entryDigests.put(zipEntry.getName(), entryHasher.hash().toString());
+      }
+    }
+    if (entryDigests.isEmpty()) {
+      throw new ZipException("No entries found in " + file);
+    }
+    final Hasher hasher = Hashing.sha256().newHasher();
+    entryDigests.forEach((name, digest) -> hasher.putUnencodedChars(name).putChar('\0').putUnencodedChars(digest));
+    return hasher.hash().toString();
+  }
+}
@@ -17,6 +17,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
@@ -36,7 +37,6 @@ import org.eclipse.jkube.kit.common.AssemblyConfiguration;
 import org.eclipse.jkube.kit.common.AssemblyFile;
 import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 import org.eclipse.jkube.kit.common.AssemblyFileSet;
-import org.eclipse.jkube.kit.common.AssemblyMode;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
@@ -55,6 +55,7 @@ import static org.eclipse.jkube.kit.build.api.assembly.AssemblyConfigurationUtil
 import static org.eclipse.jkube.kit.build.api.assembly.AssemblyConfigurationUtils.getJKubeAssemblyFileSets;
 import static org.eclipse.jkube.kit.build.api.assembly.AssemblyConfigurationUtils.getJKubeAssemblyFiles;
 import static org.eclipse.jkube.kit.common.archive.AssemblyFileSetUtils.processAssemblyFileSet;
+import static org.eclipse.jkube.kit.common.archive.AssemblyFileSetUtils.resolveAssemblyFileSetEntries;
 import static org.eclipse.jkube.kit.common.archive.AssemblyFileUtils.getAssemblyFileOutputDirectory;
 import static org.eclipse.jkube.kit.common.archive.AssemblyFileUtils.resolveSourceFile;
 
@@ -101,6 +102,38 @@ public class AssemblyManager {
         String imageName, final JKubeConfiguration configuration, final BuildConfiguration buildConfig, KitLogger log,
         ArchiverCustomizer finalCustomizer) throws IOException {
 
+        return createDockerTarArchive(imageName, configuration, buildConfig, log, finalCustomizer,
+            (archiver, buildDirs) -> archiver.createArchive(buildDirs.getOutputDirectory(), buildDirs, buildConfig.getCompression()));
+    }
+
+    /**
+     * Write a docker tar archive from the given configuration straight to the provided stream (e.g. the request body
+     * of a binary build upload) instead of creating the tar file in the build directories.
+     *
+     * <p> The stream is closed once the archive has been completely written.
+     *
+     * @param imageName Name of the image to create (used for creating build directories)
+     * @param configuration Mojos parameters (used for finding the directories)
+     * @param buildConfig configuration for how to build the image
+     * @param log KitLogger used to display warning if permissions are to be normalized
+     * @param finalCustomizer finalCustomizer to be applied to the tar archive
+     * @param outputStream stream where the archive is written to
+     * @throws IOException IO exception
+     */
+    public void writeDockerTarArchive(
+        String imageName, final JKubeConfiguration configuration, final BuildConfiguration buildConfig, KitLogger log,
+        ArchiverCustomizer finalCustomizer, OutputStream outputStream) throws IOException {
+
+        createDockerTarArchive(imageName, configuration, buildConfig, log, finalCustomizer, (archiver, buildDirs) -> {
+            archiver.writeArchive(buildDirs.getOutputDirectory(), buildConfig.getCompression(), outputStream);
+            return null;
+        });
+    }
+
+    private <T> T createDockerTarArchive(
+        String imageName, final JKubeConfiguration configuration, final BuildConfiguration buildConfig, KitLogger log,
+        ArchiverCustomizer finalCustomizer, BuildTarBallWriter<T> tarBallWriter) throws IOException {
+
         final BuildDirs buildDirs = createBuildDirs(imageName, configuration);
         final List<ArchiverCustomizer> archiveCustomizers = new ArrayList<>();
         final AssemblyConfiguration assemblyConfig = getAssemblyConfiguration(buildConfig, configuration);
@@ -111,13 +144,18 @@ public class AssemblyManager {
             if (buildConfig.isDockerFileMode()) {
                 createDockerTarArchiveForDockerFile(buildConfig, assemblyConfig, configuration, buildDirs, log, archiveCustomizers);
             } else {
-                createAssemblyArchive(assemblyConfig, configuration, buildDirs, buildConfig.getCompression(), layers);
                 createDockerTarArchiveForGeneratorMode(buildConfig, buildDirs, archiveCustomizers, assemblyConfig, layers);
             }
             archiveCustomizers.addAll(getDefaultCustomizers(configuration, assemblyConfig, finalCustomizer, layers));
-            return createBuildTarBall(configuration, buildDirs, archiveCustomizers, assemblyConfig, buildConfig.getCompression());
+            return tarBallWriter.write(createBuildTarArchiver(archiveCustomizers), buildDirs);
         } catch (IOException e) {
-            throw new IOException(String.format("Cannot create %s in %s", DOCKERFILE_NAME, buildDirs.getOutputDirectory()), e);
+            String error = String.format("Cannot create %s in %s", DOCKERFILE_NAME, buildDirs.getOutputDirectory());
+            if (!buildConfig.isDockerFileMode() && configuration.getProject().getArtifact() == null) {
+                error += ". If you include the build artifact please ensure that you have " +
+                         "built the artifact before with 'mvn package' (should be available in the target/ dir). " +
+                         "Please see the documentation (section \"Assembly\") for more information.";
+            }
+            throw new IOException(error, e);
         }
     }
 
@@ -228,18 +266,20 @@ public class AssemblyManager {
         return new File(archiveDir, relativePath);
     }
 
-    // Create final tar-ball to be used for building the archive to send to the Docker daemon
-    private File createBuildTarBall(JKubeConfiguration params, BuildDirs buildDirs, List<ArchiverCustomizer> archiverCustomizers,
-                                    AssemblyConfiguration assemblyConfig, ArchiveCompression compression) throws IOException {
-        AssemblyConfigurationSource source = new AssemblyConfigurationSource(params, buildDirs, assemblyConfig);
-
+    // Create the archiver for the final tar-ball to be used for building the archive to send to the Docker daemon
+    private static JKubeBuildTarArchiver createBuildTarArchiver(List<ArchiverCustomizer> archiverCustomizers) throws IOException {
         JKubeBuildTarArchiver jkubeTarArchiver = new JKubeBuildTarArchiver();
         for (ArchiverCustomizer customizer : archiverCustomizers) {
             if (customizer != null) {
                 jkubeTarArchiver = customizer.customize(jkubeTarArchiver);
             }
         }
-        return jkubeTarArchiver.createArchive(source.getOutputDirectory(), buildDirs, compression);
+        return jkubeTarArchiver;
+    }
+
+    @FunctionalInterface
+    private interface BuildTarBallWriter<T> {
+        T write(JKubeBuildTarArchiver archiver, BuildDirs buildDirs) throws IOException;
     }
 
     private File createArchiveDir(BuildDirs dirs) throws IOException{
@@ -255,35 +295,6 @@ public class AssemblyManager {
         return archiveDir;
     }
 
-    private void createAssemblyArchive(
-        AssemblyConfiguration assemblyConfig, JKubeConfiguration params, BuildDirs buildDirs, ArchiveCompression compression,
-        Map<Assembly, List<AssemblyFileEntry>> layers)
-        throws IOException {
-
-        if (layers.isEmpty()) {
-            return;
-        }
-        AssemblyConfigurationSource source = new AssemblyConfigurationSource(params, buildDirs, assemblyConfig);
-        JKubeBuildTarArchiver jkubeTarArchiver = new JKubeBuildTarArchiver();
-
-        AssemblyMode buildMode = assemblyConfig.getMode();
-        try {
-            layers.values().stream().flatMap(List::stream)
-                .filter(afe -> StringUtils.isNotBlank(afe.getFileMode()))
-                .forEach(jkubeTarArchiver::setFileMode);
-            jkubeTarArchiver.createArchive(source.getOutputDirectory(), buildDirs, compression);
-        } catch (IOException e) {
-            String error = "Failed to create assembly for docker image " +
-                           " (with mode '" + buildMode + "'): " + e.getMessage() + ".";
-            if (params.getProject().getArtifact() == null) {
-                error += " If you include the build artifact please ensure that you have " +
-                         "built the artifact before with 'mvn package' (should be available in the target/ dir). " +
-                         "Please see the documentation (section \"Assembly\") for more information.";
-            }
-            throw new IOException(error, e);
-        }
-    }
-
     // Set an artifact file if it is missing. This workaround the issues
     // mentioned first in https://issues.apache.org/jira/browse/MASSEMBLY-94 which requires the package
     // phase to run so set the ArtifactFile. There is no good solution, so we are trying
@@ -315,45 +326,78 @@ public class AssemblyManager {
 
     public Map<Assembly, List<AssemblyFileEntry>> copyFilesToFinalTarballDirectory(
         JKubeConfiguration configuration, BuildDirs buildDirs, AssemblyConfiguration assemblyConfiguration) throws IOException {
+        return processLayers(configuration, buildDirs, assemblyConfiguration, true);
+    }
+
+    /**
+     * Resolves the entries that {@link #copyFilesToFinalTarballDirectory(JKubeConfiguration, BuildDirs, AssemblyConfiguration)}
+     * would copy, without copying any file. Each entry's destination points to the location in the final tarball
+     * directory, while its source remains the original project file.
+     *
+     * <p> Useful for builders that read the assembly files straight from their sources (e.g. JIB).
+     *
+     * @param configuration JKube kit configuration
+     * @param buildDirs build directories for the image
+     * @param assemblyConfiguration the (flattened) assembly configuration
+     * @return the resolved entries for each of the assembly layers
+     * @throws IOException in case the assembly sources can't be read
+     */
+    public Map<Assembly, List<AssemblyFileEntry>> getAssemblyFileEntries(
+        JKubeConfiguration configuration, BuildDirs buildDirs, AssemblyConfiguration assemblyConfiguration) throws IOException {
+        return processLayers(configuration, buildDirs, assemblyConfiguration, false);
+    }
+
+    private Map<Assembly, List<AssemblyFileEntry>> processLayers(
+        JKubeConfiguration configuration, BuildDirs buildDirs, AssemblyConfiguration assemblyConfiguration, boolean copy)
+        throws IOException {
+
         final Map<Assembly, List<AssemblyFileEntry>> entries = new LinkedHashMap<>();
-        FileUtil.createDirectory(new File(buildDirs.getOutputDirectory(), assemblyConfiguration.getTargetDir()));
+        if (copy) {
+            FileUtil.createDirectory(new File(buildDirs.getOutputDirectory(), assemblyConfiguration.getTargetDir()));
+        }
         final List<Assembly> layers = assemblyConfiguration.getProcessedLayers(configuration);
         if (layers.size() > 1 && layers.stream().anyMatch(l -> StringUtils.isBlank(l.getId()))) {
             throw new IllegalStateException("Assemblies with more than one layer require a proper id for each layer");
         }
         for (Assembly layer : layers) {
-            entries.put(layer, copyLayerFilesToFinalTarballDirectory(configuration.getProject(), buildDirs, assemblyConfiguration, layer));
+            entries.put(layer, processLayerFiles(configuration.getProject(), buildDirs, assemblyConfiguration, layer, copy));
         }
         return entries;
     }
 
-    private List<AssemblyFileEntry> copyLayerFilesToFinalTarballDirectory(JavaProject project, BuildDirs buildDirs,
-        AssemblyConfiguration assemblyConfiguration, Assembly layer) throws IOException {
+    private List<AssemblyFileEntry> processLayerFiles(JavaProject project, BuildDirs buildDirs,
+        AssemblyConfiguration assemblyConfiguration, Assembly layer, boolean copy) throws IOException {
 
         final List<AssemblyFileEntry> files = new ArrayList<>();
         for (AssemblyFileSet fileSet : getJKubeAssemblyFileSets(layer)) {
-            files.addAll(processAssemblyFileSet(
-                project.getBaseDirectory(), buildDirs.getOutputDirectory(), fileSet, layer, assemblyConfiguration));
+            if (copy) {
+                files.addAll(processAssemblyFileSet(
+                    project.getBaseDirectory(), buildDirs.getOutputDirectory(), fileSet, layer, assemblyConfiguration));
+            } else {
+                files.addAll(resolveAssemblyFileSetEntries(
+                    project.getBaseDirectory(), buildDirs.getOutputDirectory(), fileSet, layer, assemblyConfiguration));
+            }
         }
         for (AssemblyFile file : getJKubeAssemblyFiles(layer)) {
-            files.add(processJKubeProjectAssemblyFile(project, file, buildDirs, layer, assemblyConfiguration));
+            files.add(processJKubeProjectAssemblyFile(project, file, buildDirs, layer, assemblyConfiguration, copy));
         }
         return files;
     }
 
     private AssemblyFileEntry processJKubeProjectAssemblyFile(
         JavaProject project, AssemblyFile assemblyFile, BuildDirs buildDirs, Assembly layer,
-        AssemblyConfiguration assemblyConfiguration) throws IOException {
+        AssemblyConfiguration assemblyConfiguration, boolean copy) throws IOException {
 
         final File sourceFile = resolveSourceFile(project.getBaseDirectory(), assemblyFile);
 
         final File outputDirectory = getAssemblyFileOutputDirectory(
             assemblyFile, buildDirs.getOutputDirectory(), layer, assemblyConfiguration);
-        FileUtil.createDirectory(outputDirectory);
-
         final String destinationFilename = Optional.ofNullable(assemblyFile.getDestName()).orElse(sourceFile.getName());
         final File destinationFile = new File(outputDirectory, destinationFilename);
-        FileUtil.copy(sourceFile, destinationFile);
+        if (copy) {
+            FileUtil.createDirectory(outputDirectory);
+            FileUtil.copy(sourceFile, destinationFile);
+        }
         return new AssemblyFileEntry(sourceFile, destinationFile, assemblyFile.getFileMode());
     }
 
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.api.assembly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+
+/**
+ * Content digest manifest of the files included in a build context archive.
+ *
+ * <p> Used to detect whether a previously created build archive can be reused because none of its inputs
+ * (relative path, size, file mode and SHA-256 of the contents) changed.
+ */
+class BuildContextManifest {
+
+  private static final String SEPARATOR = "\t";
+
+  private final String compression;
+  private final List<Entry> entries;
+
+  private BuildContextManifest(String compression, List<Entry> entries) {
+    this.compression = compression;
+    this.entries = entries;
+  }
+
+  /**
+   * Computes the manifest for the provided files.
+   *
+   * <p> File contents are only hashed if their size or modification time differs from the entry in the
+   * previous manifest (if any).
+   */
+  static BuildContextManifest create(
+      File inputDirectory, List<File> files, Map<File, String> fileModeMap, ArchiveCompression compression,
+      BuildContextManifest previous) throws IOException {
+
+    final Map<String, Entry> previousEntries = new HashMap<>();
+    if (previous != null) {
+      previous.entries.forEach(e -> previousEntries.put(e.path, e));
+    }
+    final List<Entry> entries = new ArrayList<>();
+    for (File file : files) {
+      final String path = inputDirectory.toURI().relativize(new File(file.getAbsolutePath()).toURI()).getPath();
+      final boolean isFile = file.isFile();
+      final long size = isFile ? file.length() : 0L;
+      final long lastModified = isFile ? file.lastModified() : 0L;
+      final String mode = fileModeMap.getOrDefault(file, "");
+      final Entry previousEntry = previousEntries.get(path);
+      final String digest;
+      if (!isFile) {
+        digest = "";
+      } else if (previousEntry != null && previousEntry.size == size && previousEntry.lastModified == lastModified) {
+        digest = previousEntry.digest;
+      } else {
+        digest = sha256(file);
+      }
+      entries.add(new Entry(path, size, lastModified, mode, digest));
+    }
+    entries.sort((e1, e2) -> e1.path.compareTo(e2.path));
+    return new BuildContextManifest(compression.name(), entries);
+  }
+
+  /**
+   * Reads a manifest previously written with {@link #write(File)}.
+   *
+   * @return the manifest or null if it doesn't exist or can't be read.
+   */
+  static BuildContextManifest read(File manifestFile) {
+    if (!manifestFile.isFile()) {
+      return null;
+    }
+    try {
+      final List<String> lines = Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8);
+      if (lines.isEmpty()) {
+        return null;
+      }
+      final List<Entry> entries = new ArrayList<>();
+      for (String line : lines.subList(1, lines.size())) {
+        final String[] fields = line.split(SEPARATOR, 5);
+        entries.add(new Entry(fields[4], Long.parseLong(fields[1]), Long.parseLong(fields[2]), fields[3], fields[0]));
+      }
+      return new BuildContextManifest(lines.get(0), entries);
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  void write(File manifestFile) throws IOException {
+    final List<String> lines = new ArrayList<>();
+    lines.add(compression);
+    for (Entry entry : entries) {
+      lines.add(String.join(SEPARATOR,
+          entry.digest, String.valueOf(entry.size), String.valueOf(entry.lastModified), entry.mode, entry.path));
+    }
+    Files.write(manifestFile.toPath(), lines, StandardCharsets.UTF_8);
+  }
+
+  List<Entry> getEntries() {
+    return Collections.unmodifiableList(entries);
+  }
+
+  /**
+   * Two manifests describe the same build context if they share compression and entries (modification time
+   * is ignored since unchanged files are copied again into the build directory on every build).
+   */
+  boolean isSameContent(BuildContextManifest other) {
+    if (other == null || !compression.equals(other.compression) || entries.size() != other.entries.size()) {
+      return false;
+    }
+    for (int it = 0; it < entries.size(); it++) {
+      if (!entries.get(it).isSameContent(other.entries.get(it))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String sha256(File file) throws IOException {
+    final MessageDigest messageDigest;
+    try {
+      messageDigest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    try (InputStream is = new DigestInputStream(Files.newInputStream(file.toPath()), messageDigest)) {
+      final byte[] buffer = new byte[8192];
+      while (is.read(buffer) != -1) {
+        // Digest is computed while reading
+      }
+    }
+    final StringBuilder sb = new StringBuilder();
+    for (byte b : messageDigest.digest()) {
+      sb.append(String.format("%02x", b));
+    }
+    return sb.toString();
+  }
+
+  static final class Entry {
+    private final String path;
+    private final long size;
+    private final long lastModified;
+    private final String mode;
+    private final String digest;
+
+    private Entry(String path, long size, long lastModified, String mode, String digest) {
+      this.path = path;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.mode = mode;
+      this.digest = digest;
+    }
+
+    String getPath() {
+      return path;
+    }
+
+    String getDigest() {
+      return digest;
+    }
+
+    private boolean isSameContent(Entry other) {
+      return path.equals(other.path) && size == other.size && mode.equals(other.mode)
+          && Objects.equals(digest, other.digest);
+    }
+  }
+}
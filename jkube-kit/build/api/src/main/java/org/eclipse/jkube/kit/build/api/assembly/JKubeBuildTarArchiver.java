@@ -15,6 +15,8 @@ package org.eclipse.jkube.kit.build.api.assembly;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +30,7 @@ import org.eclipse.jkube.kit.common.util.FileUtil;
 public class JKubeBuildTarArchiver {
 
     public static final String ARCHIVE_FILE_NAME = "docker-build.";
+    static final String MANIFEST_FILE_SUFFIX = ".manifest";
     private Map<File, String> filesToIncludeNameMap = new HashMap<>();
     private Map<File, String> fileModeMap = new HashMap<>();
     private List<String> filesNamesToExclude = new ArrayList<>();
@@ -46,6 +49,39 @@ public class JKubeBuildTarArchiver {
 
     public File createArchive(File inputDirectory, BuildDirs buildDirs, ArchiveCompression compression) throws IOException {
         File outputFile = new File(buildDirs.getTemporaryRootDirectory(), ARCHIVE_FILE_NAME + (compression.equals(ArchiveCompression.none) ? "tar" : compression.getFileSuffix()));
+        final List<File> fileListToAddInTarball = prepareFileList(inputDirectory);
+
+        // Reuse the previously created archive if none of its inputs changed
+        final File manifestFile = new File(outputFile.getPath() + MANIFEST_FILE_SUFFIX);
+        final BuildContextManifest previousManifest = outputFile.isFile() ? BuildContextManifest.read(manifestFile) : null;
+        final BuildContextManifest manifest = BuildContextManifest.create(
+            inputDirectory, fileListToAddInTarball, fileModeMap, compression, previousManifest);
+        if (manifest.isSameContent(previousManifest)) {
+            manifest.write(manifestFile);
+            return outputFile;
+        }
+        Files.deleteIfExists(manifestFile.toPath());
+        JKubeTarArchiver.createTarBall(outputFile, inputDirectory, fileListToAddInTarball, fileModeMap, compression);
+        manifest.write(manifestFile);
+        return outputFile;
+    }
+
+    /**
+     * Writes the archive straight to the provided stream without storing it in the build directories.
+     *
+     * <p> The stream is closed once the archive has been completely written.
+     *
+     * @param inputDirectory directory containing the files to archive
+     * @param compression compression to apply to the archive
+     * @param outputStream stream where the archive is written to
+     * @throws IOException in case the files can't be read or the stream can't be written
+     */
+    public void writeArchive(File inputDirectory, ArchiveCompression compression, OutputStream outputStream) throws IOException {
+        JKubeTarArchiver.writeTarBall(outputStream, inputDirectory, prepareFileList(inputDirectory), fileModeMap,
+            compression, null, null);
+    }
+
+    private List<File> prepareFileList(File inputDirectory) throws IOException {
         List<File> files = FileUtil.listFilesAndDirsRecursivelyInDirectory(inputDirectory);
 
         if (!filesToIncludeNameMap.isEmpty()) {
@@ -73,7 +109,6 @@ public class JKubeBuildTarArchiver {
             }
             fileListToAddInTarball.add(currentFile);
         }
-
-        return JKubeTarArchiver.createTarBall(outputFile, inputDirectory, fileListToAddInTarball, fileModeMap, compression);
+        return fileListToAddInTarball;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.api.assembly;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jkube.kit.common.AssemblyFileEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class AssemblyFilesChangeDetectorTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File sourceDirectory;
+  private File file1;
+  private File file2;
+  private AssemblyFiles assemblyFiles;
+  private BlockingQueue<Set<File>> notifications;
+  private AssemblyFilesChangeDetector changeDetector;
+
+  @Before
+  public void setUp() throws IOException {
+    sourceDirectory = temporaryFolder.newFolder("source");
+    file1 = new File(sourceDirectory, "file1.txt");
+    file2 = new File(sourceDirectory, "file2.txt");
+    assertThat(file1.createNewFile()).isTrue();
+    assertThat(file2.createNewFile()).isTrue();
+    final File other = temporaryFolder.newFile("other.txt");
+    assemblyFiles = new AssemblyFiles(temporaryFolder.newFolder("build"));
+    assemblyFiles.addEntry(new AssemblyFileEntry(file1, new File("file1.txt"), null));
+    assemblyFiles.addEntry(new AssemblyFileEntry(file2, new File("file2.txt"), null));
+    assemblyFiles.addEntry(new AssemblyFileEntry(other, new File("other.txt"), null));
+    notifications = new LinkedBlockingQueue<>();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    if (changeDetector != null) {
+      changeDetector.close();
+    }
+  }
+
+  @Test
+  public void getWatchedDirectories_shouldReturnDistinctParentDirectories() {
+    // When
+    final Set<Path> result = AssemblyFilesChangeDetector.getWatchedDirectories(assemblyFiles);
+    // Then
+    assertThat(result).containsExactly(sourceDirectory.toPath(), temporaryFolder.getRoot().toPath());
+  }
+
+  @Test
+  public void create_withModifiedFile_shouldNotifyChangedFile() throws Exception {
+    // Given
+    createChangeDetector(50L);
+    // When
+    touch(file1);
+    // Then
+    final Set<File> result = notifications.poll(5, TimeUnit.SECONDS);
+    assertThat(result).contains(file1.getAbsoluteFile()).doesNotContain(file2.getAbsoluteFile());
+    assertThat(assemblyFiles.getUpdatedEntriesAndRefresh(result))
+        .extracting(AssemblyFileEntry::getSource).containsExactly(file1);
+  }
+
+  @Test
+  public void create_withBurstOfChanges_shouldCoalesceNotifications() throws Exception {
+    // Given
+    createChangeDetector(1000L);
+    // When
+    touch(file1);
+    touch(file2);
+    // Then
+    final Set<File> result = notifications.poll(5, TimeUnit.SECONDS);
+    assertThat(result).contains(file1.getAbsoluteFile(), file2.getAbsoluteFile());
+    assertThat(notifications.poll(1500, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  @Test
+  public void create_withCreatedDirectory_shouldNotifyItsFilesAndWatchIt() throws Exception {
+    // Given
+    createChangeDetector(50L);
+    final File createdDirectory = new File(sourceDirectory, "created");
+    final File createdFile = new File(createdDirectory, "created.txt");
+    // When
+    assertThat(createdDirectory.mkdir()).isTrue();
+    assertThat(createdFile.createNewFile()).isTrue();
+    // Then
+    assertThat(pollUntilNotified(createdFile)).isTrue();
+    // Wait for the pending events of the creation to be notified
+    Thread.sleep(500L);
+    notifications.clear();
+    touch(createdFile);
+    assertThat(pollUntilNotified(createdFile)).isTrue();
+  }
+
+  @Test
+  public void create_withDeletedFile_shouldNotifyDeletedFile() throws Exception {
+    // Given
+    createChangeDetector(50L);
+    // When
+    assertThat(file2.delete()).isTrue();
+    // Then
+    assertThat(pollUntilNotified(file2)).isTrue();
+  }
+
+  @Test
+  public void getUpdatedEntriesAndRefresh_withChangedFiles_shouldOnlyCheckChangedEntries() {
+    // Given
+    touch(file1);
+    touch(file2);
+    // When
+    final List<AssemblyFileEntry> result = assemblyFiles.getUpdatedEntriesAndRefresh(
+        Collections.singletonList(file2));
+    // Then
+    assertThat(result).extracting(AssemblyFileEntry::getSource).containsExactly(file2);
+    assertThat(assemblyFiles.getUpdatedEntriesAndRefresh())
+        .extracting(AssemblyFileEntry::getSource).containsExactly(file1);
+  }
+
+  private void createChangeDetector(long debounceMillis) throws IOException {
+    final Optional<AssemblyFilesChangeDetector> result = AssemblyFilesChangeDetector.create(
+        assemblyFiles, debounceMillis, notifications::add);
+    assumeTrue("Native file watching is not available", result.isPresent());
+    changeDetector = result.get();
+  }
+
+  private boolean pollUntilNotified(File file) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 5000L;
+    Set<File> notified;
+    while ((notified = notifications.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS)) != null) {
+      if (notified.contains(file.getAbsoluteFile())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void touch(File file) {
+    assertThat(file.setLastModified(file.lastModified() + 10_000L)).isTrue();
+  }
+}
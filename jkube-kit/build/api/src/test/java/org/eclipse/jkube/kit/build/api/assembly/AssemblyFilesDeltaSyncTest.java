@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.api.assembly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.jkube.kit.common.AssemblyFileEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AssemblyFilesDeltaSyncTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File clazz;
+  private File jar;
+  private AssemblyFileEntry clazzEntry;
+  private AssemblyFileEntry jarEntry;
+  private AssemblyFilesDeltaSync deltaSync;
+
+  @Before
+  public void setUp() throws IOException {
+    clazz = temporaryFolder.newFile("Main.class");
+    Files.write(clazz.toPath(), "v1".getBytes(StandardCharsets.UTF_8));
+    jar = temporaryFolder.newFile("app.jar");
+    writeJar(jar, 1000L, "v1");
+    clazzEntry = new AssemblyFileEntry(clazz, new File("build", "Main.class"), null);
+    jarEntry = new AssemblyFileEntry(jar, new File("build", "app.jar"), null);
+    final AssemblyFiles assemblyFiles = new AssemblyFiles(temporaryFolder.newFolder("build"));
+    assemblyFiles.addEntry(clazzEntry);
+    assemblyFiles.addEntry(jarEntry);
+    deltaSync = new AssemblyFilesDeltaSync();
+    deltaSync.seed(assemblyFiles);
+  }
+
+  @Test
+  public void getChangedEntries_withSameContent_shouldReturnEmpty() throws IOException {
+    // Given
+    Files.write(clazz.toPath(), "v1".getBytes(StandardCharsets.UTF_8));
+    writeJar(jar, 2000L, "v1");
+    // When
+    final List<AssemblyFileEntry> result = deltaSync.getChangedEntries(Arrays.asList(clazzEntry, jarEntry));
+    // Then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  public void getChangedEntries_withChangedContent_shouldReturnChangedEntries() throws IOException {
+    // Given
+    Files.write(clazz.toPath(), "v2".getBytes(StandardCharsets.UTF_8));
+    writeJar(jar, 1000L, "v2");
+    // When
+    final List<AssemblyFileEntry> result = deltaSync.getChangedEntries(Arrays.asList(clazzEntry, jarEntry));
+    // Then
+    assertThat(result).containsExactly(clazzEntry, jarEntry);
+  }
+
+  @Test
+  public void getChangedEntries_withoutMarkShipped_shouldKeepReturningChangedEntries() throws IOException {
+    // Given
+    Files.write(clazz.toPath(), "v2".getBytes(StandardCharsets.UTF_8));
+    deltaSync.getChangedEntries(Collections.singletonList(clazzEntry));
+    // When
+    final List<AssemblyFileEntry> result = deltaSync.getChangedEntries(Collections.singletonList(clazzEntry));
+    // Then
+    assertThat(result).containsExactly(clazzEntry);
+  }
+
+  @Test
+  public void getChangedEntries_afterMarkShipped_shouldReturnEmpty() throws IOException {
+    // Given
+    Files.write(clazz.toPath(), "v2".getBytes(StandardCharsets.UTF_8));
+    deltaSync.markShipped(deltaSync.getChangedEntries(Collections.singletonList(clazzEntry)));
+    // When
+    final List<AssemblyFileEntry> result = deltaSync.getChangedEntries(Collections.singletonList(clazzEntry));
+    // Then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  public void digest_withInvalidArchive_shouldDigestRawContent() throws IOException {
+    // Given
+    final File invalid = temporaryFolder.newFile("invalid.jar");
+    Files.write(invalid.toPath(), "not a jar".getBytes(StandardCharsets.UTF_8));
+    // When
+    final String result = AssemblyFilesDeltaSync.digest(invalid);
+    // Then
+    assertThat(result).hasSize(64);
+  }
+
+  private static void writeJar(File jar, long time, String content) throws IOException {
+    try (OutputStream os = Files.newOutputStream(jar.toPath()); ZipOutputStream zos = new ZipOutputStream(os)) {
+      final ZipEntry entry = new ZipEntry("com/example/Main.class");
+      entry.setTime(time);
+      zos.putNextEntry(entry);
+      zos.write(content.getBytes(StandardCharsets.UTF_8));
+      zos.closeEntry();
+    }
+  }
+}
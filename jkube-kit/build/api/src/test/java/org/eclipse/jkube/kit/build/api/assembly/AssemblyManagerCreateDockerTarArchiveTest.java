@@ -15,6 +15,7 @@ package org.eclipse.jkube.kit.build.api.assembly;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -44,6 +45,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 public class AssemblyManagerCreateDockerTarArchiveTest {
@@ -356,6 +358,72 @@ public class AssemblyManagerCreateDockerTarArchiveTest {
         "maven/target/i-wont-be-ignored");
   }
 
+  @Test
+  public void withoutDockerfileAndUnchangedContext_shouldReusePreviousArchive() throws IOException {
+    // Given
+    final JKubeConfiguration jKubeConfiguration = createJKubeConfiguration();
+    final BuildConfiguration buildConfiguration = BuildConfiguration.builder().build();
+    final File previousArchive = assemblyManager.createDockerTarArchive(
+        "unchanged-context", jKubeConfiguration, buildConfiguration, prefixedLogger, null);
+    assertTrue(previousArchive.setLastModified(1000L));
+
+    // When
+    File dockerArchiveFile = assemblyManager.createDockerTarArchive(
+        "unchanged-context", jKubeConfiguration, buildConfiguration, prefixedLogger, null);
+
+    // Then
+    assertThat(dockerArchiveFile).isEqualTo(previousArchive);
+    assertThat(dockerArchiveFile.lastModified()).isEqualTo(1000L);
+    assertThat(new File(dockerArchiveFile.getPath() + ".manifest")).isFile();
+  }
+
+  @Test
+  public void withoutDockerfileAndChangedContext_shouldRecreateArchive() throws IOException {
+    // Given
+    final JKubeConfiguration jKubeConfiguration = createJKubeConfiguration();
+    final BuildConfiguration buildConfiguration = BuildConfiguration.builder().build();
+    final File previousArchive = assemblyManager.createDockerTarArchive(
+        "changed-context", jKubeConfiguration, buildConfiguration, prefixedLogger, null);
+    assertTrue(previousArchive.setLastModified(1000L));
+    writeLineToFile(jKubeConfiguration.getProject().getArtifact(), "changed");
+
+    // When
+    File dockerArchiveFile = assemblyManager.createDockerTarArchive(
+        "changed-context", jKubeConfiguration, buildConfiguration, prefixedLogger, null);
+
+    // Then
+    assertThat(dockerArchiveFile.lastModified()).isNotEqualTo(1000L);
+    ArchiveAssertions.assertThat(dockerArchiveFile)
+        .isFile().hasName("docker-build.tar").hasSize(4608);
+  }
+
+  @Test
+  public void writeDockerTarArchive_withoutDockerfileAndArtifactAndFailingWrite_shouldSuggestPackaging() throws IOException {
+    // Given
+    final JKubeConfiguration jKubeConfiguration = createJKubeConfiguration().toBuilder()
+        .project(JavaProject.builder()
+            .baseDirectory(baseDirectory)
+            .buildDirectory(targetDirectory)
+            .build())
+        .build();
+    final BuildConfiguration buildConfiguration = BuildConfiguration.builder().build();
+    final OutputStream failingOutputStream = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Broken pipe");
+      }
+    };
+
+    // When
+    final IOException result = assertThrows(IOException.class, () -> assemblyManager.writeDockerTarArchive(
+        "no-artifact", jKubeConfiguration, buildConfiguration, prefixedLogger, null, failingOutputStream));
+
+    // Then
+    assertThat(result)
+        .hasMessageStartingWith("Cannot create Dockerfile in ")
+        .hasMessageContaining("built the artifact before with 'mvn package'");
+  }
+
   private void assertTargetHasDockerDirectories(String imageDirName) {
     assertThat(targetDirectory.toPath().resolve("docker").resolve(imageDirName))
         .isDirectory().exists()
@@ -15,9 +15,17 @@ package org.eclipse.jkube.kit.build.api.assembly;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
+import org.eclipse.jkube.kit.common.Assembly;
 import org.eclipse.jkube.kit.common.AssemblyConfiguration;
+import org.eclipse.jkube.kit.common.AssemblyFile;
+import org.eclipse.jkube.kit.common.AssemblyFileEntry;
+import org.eclipse.jkube.kit.common.AssemblyFileSet;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
@@ -27,12 +35,14 @@ import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import mockit.Expectations;
 import mockit.Injectable;
 import mockit.Verifications;
+import org.apache.commons.io.FileUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings({"TestMethodWithIncorrectSignature", "ResultOfMethodCallIgnored"})
@@ -85,6 +95,42 @@ public class AssemblyManagerTest {
   }
 
 
+  @Test
+  public void getAssemblyFileEntries_shouldResolveSameEntriesAsCopyWithoutCopying() throws Exception {
+    // Given
+    final File baseDirectory = temporaryFolder.newFolder("project");
+    final File staticDir = new File(baseDirectory, "static");
+    FileUtils.write(new File(staticDir, "index.html"), "<html/>", StandardCharsets.UTF_8);
+    FileUtils.write(new File(new File(staticDir, "css"), "style.css"), "body{}", StandardCharsets.UTF_8);
+    final File artifact = new File(baseDirectory, "artifact.jar");
+    FileUtils.touch(artifact);
+    final JKubeConfiguration configuration = JKubeConfiguration.builder()
+        .outputDirectory("target/docker")
+        .project(JavaProject.builder().baseDirectory(baseDirectory).buildDirectory(targetDirectory).build())
+        .build();
+    final AssemblyConfiguration assemblyConfiguration = AssemblyConfiguration.builder()
+        .targetDir("/deployments")
+        .layer(Assembly.builder()
+            .fileSet(AssemblyFileSet.builder().directory(staticDir).build())
+            .file(AssemblyFile.builder().source(artifact).outputDirectory(new File(".")).build())
+            .build())
+        .build();
+    final BuildDirs buildDirs = new BuildDirs("test-image", configuration);
+    // When
+    final Map<Assembly, List<AssemblyFileEntry>> result = assemblyManager
+        .getAssemblyFileEntries(configuration, buildDirs, assemblyConfiguration);
+    // Then
+    assertThat(buildDirs.getOutputDirectory()).doesNotExist();
+    final Map<Assembly, List<AssemblyFileEntry>> copied = assemblyManager
+        .copyFilesToFinalTarballDirectory(configuration, buildDirs, assemblyConfiguration);
+    assertThat(result).hasSize(1);
+    assertThat(result.values().iterator().next())
+        .extracting("source", "dest", "fileMode")
+        .containsExactlyInAnyOrderElementsOf(copied.values().iterator().next().stream()
+            .map(e -> tuple(e.getSource(), e.getDest(), e.getFileMode()))
+            .collect(Collectors.toList()));
+  }
+
   @Test
   public void testCopyValidVerifyGivenDockerfile(@Injectable final KitLogger logger) throws IOException {
     BuildConfiguration buildConfig = createBuildConfig();
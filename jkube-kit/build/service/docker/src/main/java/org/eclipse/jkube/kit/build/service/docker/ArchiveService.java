@@ -24,6 +24,7 @@ import org.eclipse.jkube.kit.common.KitLogger;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -70,6 +71,22 @@ public class ArchiveService {
         return ret;
     }
 
+    /**
+     * Write the tar archive containing the source for building an image straight to the provided stream
+     * (e.g. a binary build upload) instead of creating a tar file.
+     *
+     * @param imageConfig the image configuration
+     * @param params mojo params for the project
+     * @param customizer final customizer to be applied to the tar before being generated
+     * @param outputStream stream where the archive is written to, closed once the archive is complete
+     * @throws IOException if during creation of the tar an error occurs.
+     */
+    public void writeDockerBuildArchive(ImageConfiguration imageConfig, JKubeConfiguration params, ArchiverCustomizer customizer,
+        OutputStream outputStream) throws IOException {
+        assemblyManager.writeDockerTarArchive(imageConfig.getName(), params, imageConfig.getBuildConfiguration(), log, customizer, outputStream);
+        log.info("%s: Streamed docker source tar", imageConfig.getDescription());
+    }
+
     /**
      * Get a mapping of original to destination files which a covered by an assembly. This can be used
      * to watch the source files for changes in order to update the target (either by recreating a docker image
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+
+/**
+ * Watch task that coalesces overlapping triggers.
+ *
+ * <p> Changed files reported while the task is waiting to be executed are accumulated and processed in a single
+ * execution. Changes reported while the task is running trigger a new execution once the current one completes.
+ * The latency from the first trigger to the completion of the task is logged for every execution that performed
+ * some work.
+ */
+class CoalescingWatchTask {
+
+  private final Executor executor;
+  private final Predicate<Set<File>> task;
+  private final String description;
+  private final KitLogger log;
+  private final Set<File> changedFiles;
+  private final AtomicBoolean pending;
+  private volatile long triggeredAtNanos;
+
+  /**
+   * @param executor executor where the task runs, should be single-threaded to serialize the executions
+   * @param task processes the changed files, returns true if any work was performed
+   * @param description description of the task used for logging
+   * @param log logger
+   */
+  CoalescingWatchTask(Executor executor, Predicate<Set<File>> task, String description, KitLogger log) {
+    this.executor = executor;
+    this.task = task;
+    this.description = description;
+    this.log = log;
+    this.changedFiles = ConcurrentHashMap.newKeySet();
+    this.pending = new AtomicBoolean(false);
+  }
+
+  void trigger(Collection<File> files) {
+    changedFiles.addAll(files);
+    if (pending.compareAndSet(false, true)) {
+      triggeredAtNanos = System.nanoTime();
+      executor.execute(this::run);
+    }
+  }
+
+  private void run() {
+    final long triggeredAt = triggeredAtNanos;
+    pending.set(false);
+    final Set<File> drained = new LinkedHashSet<>();
+    for (Iterator<File> it = changedFiles.iterator(); it.hasNext(); ) {
+      drained.add(it.next());
+      it.remove();
+    }
+    if (!drained.isEmpty() && task.test(drained)) {
+      log.info("%s completed in %d ms", description,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - triggeredAt));
+    }
+  }
+}
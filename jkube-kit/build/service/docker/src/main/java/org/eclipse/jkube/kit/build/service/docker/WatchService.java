@@ -22,8 +22,11 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyFiles;
+import org.eclipse.jkube.kit.build.api.assembly.AssemblyFilesChangeDetector;
+import org.eclipse.jkube.kit.build.api.assembly.AssemblyFilesDeltaSync;
 import org.eclipse.jkube.kit.build.service.docker.access.PortMapping;
 import org.eclipse.jkube.kit.build.service.docker.helper.StartContainerExecutor;
 import org.eclipse.jkube.kit.build.service.docker.helper.Task;
@@ -47,6 +50,8 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class WatchService {
 
+    private static final long WATCH_DEBOUNCE_MILLIS = 200L;
+
     private final ArchiveService archiveService;
     private final BuildService buildService;
     private final QueryService queryService;
@@ -65,11 +70,11 @@ public class WatchService {
     public synchronized void watch(WatchContext context, JKubeConfiguration buildContext, List<ImageConfiguration> images)
         throws IOException {
 
-        // Important to be be a single threaded scheduler since watch jobs must run serialized
-        ScheduledExecutorService executor = null;
+        // Each image gets its own single threaded scheduler: watch jobs of the same image must run serialized,
+        // but a slow job (e.g. a rebuild) of one image shouldn't block the jobs of other images
+        final List<ScheduledExecutorService> executors = new ArrayList<>();
+        final List<AssemblyFilesChangeDetector> changeDetectors = new ArrayList<>();
         try {
-            executor = Executors.newSingleThreadScheduledExecutor();
-
             for (ImageConfiguration imageConfig : runService.getImagesConfigsInOrder(queryService, images)) {
 
                 String imageId = queryService.getImageId(imageConfig.getName());
@@ -82,16 +87,24 @@ public class WatchService {
                 log.info("Watching %s %s", imageConfig.getName(), (watchMode != null ? " using " + watchMode.getDescription() : ""));
 
                 ArrayList<String> tasks = new ArrayList<>();
+                final ScheduledExecutorService executor = createImageExecutor(imageConfig);
+                executors.add(executor);
 
                 if (imageConfig.getBuildConfiguration() != null &&
                         imageConfig.getBuildConfiguration().getAssembly() != null) {
                     if (watcher.isCopy()) {
-                        schedule(executor, createCopyWatchTask(watcher, context.getBuildContext()), interval);
+                        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, context.getBuildContext());
+                        watchAssemblyFiles(executor, changeDetectors, files,
+                            createCopyWatchTask(watcher, files, context.getBuildContext()), interval,
+                            imageConfig.getDescription() + ": Copy");
                         tasks.add("copying artifacts");
                     }
 
                     if (watcher.isBuild()) {
-                        schedule(executor, createBuildWatchTask(watcher, context.getBuildContext(), watchMode == WatchMode.both, buildContext), interval);
+                        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, context.getBuildContext());
+                        watchAssemblyFiles(executor, changeDetectors, files,
+                            createBuildWatchTask(watcher, files, watchMode == WatchMode.both, buildContext), interval,
+                            imageConfig.getDescription() + ": Rebuild");
                         tasks.add("rebuilding");
                     }
                 }
@@ -114,36 +127,96 @@ public class WatchService {
             log.warn("Interrupted");
             Thread.currentThread().interrupt();
         } finally {
-            if (executor != null) {
+            for (AssemblyFilesChangeDetector changeDetector : changeDetectors) {
+                changeDetector.close();
+            }
+            for (ScheduledExecutorService executor : executors) {
                 executor.shutdownNow();
             }
         }
     }
 
+    private static ScheduledExecutorService createImageExecutor(ImageConfiguration imageConfig) {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "jkube-watch-" + imageConfig.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     private void schedule(ScheduledExecutorService executor, Runnable runnable, long interval) {
-        executor.scheduleAtFixedRate(runnable, 0, interval, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(runnable, 0, interval, TimeUnit.MILLISECONDS);
     }
 
-    private Runnable createCopyWatchTask(final ImageWatcher watcher,
+    /**
+     * Runs the provided task with the changed assembly entries whenever the assembly files change.
+     *
+     * <p> Changes are detected with native file system events, triggers overlapping with a pending execution
+     * are coalesced into a single one. Polling every <code>interval</code> ms is used as a fallback if native
+     * file watching is not available. The task is always run in the provided executor.
+     */
+    void watchAssemblyFiles(
+        ScheduledExecutorService executor, List<AssemblyFilesChangeDetector> changeDetectors, AssemblyFiles files,
+        Consumer<List<AssemblyFileEntry>> task, long interval, String description) throws IOException {
+
+        final CoalescingWatchTask watchTask = new CoalescingWatchTask(executor, changedFiles -> {
+            final List<AssemblyFileEntry> entries = files.getUpdatedEntriesAndRefresh(changedFiles);
+            if (entries.isEmpty()) {
+                return false;
+            }
+            task.accept(entries);
+            return true;
+        }, description, log);
+        final Optional<AssemblyFilesChangeDetector> changeDetector = AssemblyFilesChangeDetector.create(
+            files, WATCH_DEBOUNCE_MILLIS, watchTask::trigger);
+        if (changeDetector.isPresent()) {
+            changeDetectors.add(changeDetector.get());
+        } else {
+            log.verbose("Native file watching is not available, polling for changes every %d ms", interval);
+            schedule(executor, () -> {
+                final long start = System.nanoTime();
+                final List<AssemblyFileEntry> entries = files.getUpdatedEntriesAndRefresh();
+                if (!entries.isEmpty()) {
+                    task.accept(entries);
+                    log.info("%s completed in %d ms", description,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            }, interval);
+        }
+    }
+
+    private Consumer<List<AssemblyFileEntry>> createCopyWatchTask(final ImageWatcher watcher, final AssemblyFiles files,
                                          final JKubeConfiguration jKubeConfiguration) throws IOException {
         final ImageConfiguration imageConfig = watcher.getImageConfiguration();
+        final AssemblyFilesDeltaSync deltaSync;
+        if (watcher.getWatchContext().isDeltaSync()) {
+            deltaSync = new AssemblyFilesDeltaSync();
+            deltaSync.seed(files);
+        } else {
+            deltaSync = null;
+        }
 
-        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, jKubeConfiguration);
-
-        return () -> {
-            List<AssemblyFileEntry> entries = files.getUpdatedEntriesAndRefresh();
-                 if (!entries.isEmpty()) {
-                     try {
-                         log.info("%s: Assembly changed. Copying changed files to container...", imageConfig.getDescription());
-                         File changedFilesArchive = archiveService.createChangedFilesArchive(entries, files.getAssemblyDirectory(),
-                                 imageConfig.getName(), jKubeConfiguration);
-                         copyFilesToContainer(changedFilesArchive, watcher);
-                                    callPostExec(watcher);
-                     } catch (IOException | WatchException e) {
-                         log.error("%s: Error when copying files to container %s: %s",
-                                 imageConfig.getDescription(), watcher.getContainerId(), e.getMessage());
-
-
+        return updatedEntries -> {
+            if (!updatedEntries.isEmpty()) {
+                try {
+                    final List<AssemblyFileEntry> entries = deltaSync != null ?
+                        deltaSync.getChangedEntries(updatedEntries) : updatedEntries;
+                    if (entries.isEmpty()) {
+                        log.verbose("%s: Assembly files updated but their content didn't change, skipping copy",
+                            imageConfig.getDescription());
+                        return;
+                    }
+                    log.info("%s: Assembly changed. Copying changed files to container...", imageConfig.getDescription());
+                    File changedFilesArchive = archiveService.createChangedFilesArchive(entries, files.getAssemblyDirectory(),
+                            imageConfig.getName(), jKubeConfiguration);
+                    copyFilesToContainer(changedFilesArchive, watcher);
+                    if (deltaSync != null) {
+                        deltaSync.markShipped(entries);
+                    }
+                    callPostExec(watcher);
+                } catch (IOException | WatchException e) {
+                    log.error("%s: Error when copying files to container %s: %s",
+                            imageConfig.getDescription(), watcher.getContainerId(), e.getMessage());
                 }
             }
         };
@@ -166,18 +239,16 @@ public class WatchService {
         }
     }
 
-    Runnable createBuildWatchTask(final ImageWatcher watcher,
-                                          final JKubeConfiguration mojoParameters, final boolean doRestart, final JKubeConfiguration buildContext)
+    Consumer<List<AssemblyFileEntry>> createBuildWatchTask(final ImageWatcher watcher, final AssemblyFiles files,
+                                          final boolean doRestart, final JKubeConfiguration buildContext)
             throws IOException {
         final ImageConfiguration imageConfig = watcher.getImageConfiguration();
-        final AssemblyFiles files = archiveService.getAssemblyFiles(imageConfig, mojoParameters);
         if (files.isEmpty()) {
             log.error("No assembly files for %s. Are you sure you invoked together with the `package` goal?", imageConfig.getDescription());
             throw new IOException("No files to watch found for " + imageConfig);
         }
 
-        return () -> {
-            List<AssemblyFileEntry> entries = files.getUpdatedEntriesAndRefresh();
+        return entries -> {
             if (entries != null && !entries.isEmpty()) {
                 try {
                     log.info("%s: Assembly changed. Rebuild ...", imageConfig.getDescription());
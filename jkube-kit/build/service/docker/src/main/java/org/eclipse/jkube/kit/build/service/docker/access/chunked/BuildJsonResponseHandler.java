@@ -13,7 +13,6 @@
  */
 package org.eclipse.jkube.kit.build.service.docker.access.chunked;
 
-import com.google.gson.JsonObject;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 import org.eclipse.jkube.kit.common.KitLogger;
 
@@ -26,22 +25,17 @@ public class BuildJsonResponseHandler implements EntityStreamReaderUtil.JsonEnti
     }
 
     @Override
-    public void process(JsonObject json) throws DockerAccessException {
-        if (json.has("error")) {
-            String msg = json.get("error").getAsString();
-            String detailMsg = "";
-            if (json.has("errorDetail")) {
-                JsonObject details = json.getAsJsonObject("errorDetail");
-                detailMsg = details.get("message").getAsString();
-            }
-            throw new DockerAccessException("%s %s", json.get("error"),
+    public void process(StreamMessage message) throws DockerAccessException {
+        if (message.getError() != null) {
+            String msg = message.getError();
+            String detailMsg = message.getErrorDetailMessage() != null ? message.getErrorDetailMessage() : "";
+            throw new DockerAccessException("%s %s", msg,
                     (msg.equals(detailMsg) || "".equals(detailMsg) ? "" : "(" + detailMsg + ")"));
-        } else if (json.has("stream")) {
-            String message = json.get("stream").getAsString();
-            log.verbose("%s", message.trim());
-        } else if (json.has("status")) {
-            String status = json.get("status").getAsString().trim();
-            String id = json.has("id") ? json.get("id").getAsString() : null;
+        } else if (message.getStream() != null) {
+            log.verbose("%s", message.getStream().trim());
+        } else if (message.getStatus() != null) {
+            String status = message.getStatus().trim();
+            String id = message.getId();
             if (status.matches("^.*(Download|Pulling).*")) {
                 log.info("  %s%s",id != null ? id + " " : "",status);
             }
@@ -19,8 +19,6 @@ import java.io.InputStreamReader;
 
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 
@@ -32,9 +30,13 @@ public class EntityStreamReaderUtil {
         handler.start();
         try(JsonReader json = new JsonReader(new InputStreamReader(stream))) {
             json.setLenient(true);
-            while (json.peek() != JsonToken.END_DOCUMENT) {
-            	JsonObject jsonObject = JsonParser.parseReader(json).getAsJsonObject();
-                handler.process(jsonObject);
+            JsonToken token;
+            while ((token = json.peek()) != JsonToken.END_DOCUMENT) {
+                if (token == JsonToken.BEGIN_OBJECT) {
+                    handler.process(StreamMessage.read(json));
+                } else {
+                    json.skipValue();
+                }
             }
         } finally {
             handler.stop();
@@ -42,7 +44,7 @@ public class EntityStreamReaderUtil {
     }
 
     public interface JsonEntityResponseHandler {
-        void process(JsonObject toProcess) throws DockerAccessException;
+        void process(StreamMessage toProcess) throws DockerAccessException;
         void start();
         void stop();
     }
@@ -13,57 +13,88 @@
  */
 package org.eclipse.jkube.kit.build.service.docker.access.chunked;
 
-import com.google.gson.JsonObject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 import org.eclipse.jkube.kit.common.KitLogger;
 
 public class PullOrPushResponseJsonHandler implements EntityStreamReaderUtil.JsonEntityResponseHandler {
 
+    // Minimum time between two progress updates of the same layer (unless its status changes)
+    private static final long PROGRESS_UPDATE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
     private final KitLogger log;
+    private final LongSupplier nanoTime;
+    private final Map<String, LayerProgress> layerProgress;
 
     public PullOrPushResponseJsonHandler(KitLogger log) {
+        this(log, System::nanoTime);
+    }
+
+    PullOrPushResponseJsonHandler(KitLogger log, LongSupplier nanoTime) {
         this.log = log;
+        this.nanoTime = nanoTime;
+        this.layerProgress = new HashMap<>();
     }
 
     @Override
-    public void process(JsonObject json) throws DockerAccessException {
-        if (json.has("progressDetail")) {
-            log.progressUpdate(getStringOrEmpty(json, "id"),
-                               getStringOrEmpty(json, "status"),
-                               getStringOrEmpty(json, "progress"));
-        } else if (json.has("error")) {
-            throwDockerAccessException(json);
+    public void process(StreamMessage message) throws DockerAccessException {
+        if (message.isProgressDetail()) {
+            final String id = getStringOrEmpty(message.getId());
+            final String status = getStringOrEmpty(message.getStatus());
+            if (shouldUpdateProgress(id, status)) {
+                log.progressUpdate(id, status, getStringOrEmpty(message.getProgress()));
+            }
+        } else if (message.getError() != null) {
+            throwDockerAccessException(message);
         } else {
             log.progressFinished();
-            logInfoMessage(json);
+            logInfoMessage(message);
             log.progressStart();
         }
     }
 
-    private void logInfoMessage(JsonObject json) {
+    private boolean shouldUpdateProgress(String id, String status) {
+        final long now = nanoTime.getAsLong();
+        final LayerProgress last = layerProgress.get(id);
+        if (last == null || !Objects.equals(last.status, status) || now - last.updatedAt >= PROGRESS_UPDATE_INTERVAL_NANOS) {
+            layerProgress.put(id, new LayerProgress(status, now));
+            return true;
+        }
+        return false;
+    }
+
+    private void logInfoMessage(StreamMessage message) {
         String value;
-        if (json.has("stream")) {
-            value = json.get("stream").getAsString().replaceFirst("\n$", "");
-        } else if (json.has("status")) {
-            value = json.get("status").getAsString();
+        if (message.getStream() != null) {
+            value = message.getStream().replaceFirst("\n$", "");
+        } else if (message.getStatus() != null) {
+            value = message.getStatus();
+        } else if (message.getAuxId() != null) {
+            value = "ID: " + message.getAuxId();
         } else {
-            value = json.toString();
+            return;
         }
         log.info("%s", value);
     }
 
-    private void throwDockerAccessException(JsonObject json) throws DockerAccessException {
-        String msg = json.get("error").getAsString().trim();
-        String details = json.getAsJsonObject("errorDetail").get("message").getAsString().trim();
-        throw new DockerAccessException("%s %s", msg, (msg.equals(details) ? "" : "(" + details + ")"));
+    private void throwDockerAccessException(StreamMessage message) throws DockerAccessException {
+        String msg = message.getError().trim();
+        String details = getStringOrEmpty(message.getErrorDetailMessage()).trim();
+        throw new DockerAccessException("%s %s", msg, (msg.equals(details) || details.isEmpty() ? "" : "(" + details + ")"));
     }
 
-    private String getStringOrEmpty(JsonObject json, String what) {
-        return json.has(what) ? json.get(what).getAsString() : "";
+    private static String getStringOrEmpty(String value) {
+        return value != null ? value : "";
     }
 
     @Override
     public void start() {
+        layerProgress.clear();
         log.progressStart();
     }
 
@@ -71,4 +102,14 @@ public class PullOrPushResponseJsonHandler implements EntityStreamReaderUtil.Jso
     public void stop() {
         log.progressFinished();
     }
+
+    private static final class LayerProgress {
+        private final String status;
+        private final long updatedAt;
+
+        private LayerProgress(String status, long updatedAt) {
+            this.status = status;
+            this.updatedAt = updatedAt;
+        }
+    }
 }
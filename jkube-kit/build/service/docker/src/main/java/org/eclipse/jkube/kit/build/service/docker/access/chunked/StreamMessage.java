@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.access.chunked;
+
+import java.io.IOException;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import lombok.Getter;
+
+/**
+ * Single message of a Docker JSON stream (build, pull or push progress).
+ *
+ * <p> Only the fields used by the response handlers are extracted while reading the stream, any other field
+ * is skipped without being materialized.
+ */
+@Getter
+public class StreamMessage {
+
+  private String stream;
+  private String status;
+  private String id;
+  private String progress;
+  private boolean progressDetail;
+  private String error;
+  private String errorDetailMessage;
+  private String auxId;
+
+  StreamMessage() {}
+
+  /**
+   * Reads the next JSON object from the reader.
+   *
+   * @param reader reader positioned at the beginning of a JSON object
+   * @return the extracted message
+   * @throws IOException in case the stream can't be read or the JSON is malformed
+   */
+  static StreamMessage read(JsonReader reader) throws IOException {
+    final StreamMessage message = new StreamMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "stream":
+          message.stream = nextString(reader);
+          break;
+        case "status":
+          message.status = nextString(reader);
+          break;
+        case "id":
+          message.id = nextString(reader);
+          break;
+        case "progress":
+          message.progress = nextString(reader);
+          break;
+        case "progressDetail":
+          message.progressDetail = true;
+          reader.skipValue();
+          break;
+        case "error":
+          message.error = nextString(reader);
+          break;
+        case "errorDetail":
+          message.errorDetailMessage = nextNestedString(reader, "message");
+          break;
+        case "aux":
+          message.auxId = nextNestedString(reader, "ID");
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return message;
+  }
+
+  private static String nextString(JsonReader reader) throws IOException {
+    final JsonToken token = reader.peek();
+    if (token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN) {
+      return token == JsonToken.BOOLEAN ? Boolean.toString(reader.nextBoolean()) : reader.nextString();
+    }
+    reader.skipValue();
+    return null;
+  }
+
+  private static String nextNestedString(JsonReader reader, String field) throws IOException {
+    if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+      reader.skipValue();
+      return null;
+    }
+    String value = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if (field.equals(reader.nextName())) {
+        value = nextString(reader);
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return value;
+  }
+}
@@ -30,6 +30,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -42,6 +45,7 @@ import java.util.regex.Pattern;
 public class LogRequestor extends Thread implements LogGetHandle {
     // Patter for matching log entries
     static final Pattern LOG_LINE = Pattern.compile("^\\[?(?<timestamp>[^\\s\\]]*)]? (?<entry>.*?)\\s*$", Pattern.DOTALL);
+    private static final int INITIAL_PAYLOAD_BUFFER_SIZE = 1024;
     private final CloseableHttpClient client;
 
     private final String containerId;
@@ -56,6 +60,12 @@ public class LogRequestor extends Thread implements LogGetHandle {
 
     private final UrlBuilder urlBuilder;
 
+    // Buffers and decoder are reused for every frame of the stream, payload and char buffers grow as needed
+    private final ByteBuffer headerBuffer;
+    private final CharsetDecoder decoder;
+    private ByteBuffer payloadBuffer;
+    private CharBuffer charBuffer;
+
     /**
      * Create a helper object for requesting log entries synchronously ({@link #fetchLogs()}) or asynchronously ({@link #start()}.
      *
@@ -72,6 +82,11 @@ public class LogRequestor extends Thread implements LogGetHandle {
 
         this.callback = callback;
         this.exception = null;
+
+        this.headerBuffer = ByteBuffer.allocate(8).order(ByteOrder.BIG_ENDIAN);
+        this.decoder = Charsets.UTF_8.newDecoder();
+        this.payloadBuffer = ByteBuffer.allocate(INITIAL_PAYLOAD_BUFFER_SIZE);
+        this.charBuffer = CharBuffer.allocate(INITIAL_PAYLOAD_BUFFER_SIZE);
     }
 
     /**
@@ -136,8 +151,7 @@ public class LogRequestor extends Thread implements LogGetHandle {
         // Read the header, which is composed of eight bytes. The first byte is an integer
         // indicating the stream type (0 = stdin, 1 = stdout, 2 = stderr), the next three are thrown
         // out, and the final four are the size of the remaining stream as an integer.
-        ByteBuffer headerBuffer = ByteBuffer.allocate(8);
-        headerBuffer.order(ByteOrder.BIG_ENDIAN);
+        headerBuffer.clear();
         try {
             this.readFully(is, headerBuffer.array());
         } catch (NoBytesReadException e) {
@@ -159,19 +173,44 @@ public class LogRequestor extends Thread implements LogGetHandle {
         }
 
         // Read the actual message
-        ByteBuffer payload = ByteBuffer.allocate(size);
+        ByteBuffer payload = payloadBuffer(size);
         try {
-            ByteStreams.readFully(is, payload.array());
+            ByteStreams.readFully(is, payload.array(), 0, size);
         } catch (EOFException e) {
             throw new IOException("Failed to read log message. Could not read all " + size + " bytes. " + e.getMessage() +
                                   " [ Header: " + Hex.encodeHexString(headerBuffer.array()) + "]", e);
         }
 
-        String message = Charsets.UTF_8.newDecoder().decode(payload).toString();
+        String message = decode(payload);
         callLogCallback(type, message);
         return true;
     }
 
+    private ByteBuffer payloadBuffer(int size) {
+        if (payloadBuffer.capacity() < size) {
+            payloadBuffer = ByteBuffer.allocate(Math.max(size, payloadBuffer.capacity() * 2));
+            charBuffer = CharBuffer.allocate(payloadBuffer.capacity());
+        }
+        payloadBuffer.clear();
+        payloadBuffer.limit(size);
+        return payloadBuffer;
+    }
+
+    // UTF-8 never decodes to more chars than bytes, so the char buffer (same capacity as the payload) always fits
+    private String decode(ByteBuffer payload) throws IOException {
+        decoder.reset();
+        charBuffer.clear();
+        CoderResult result = decoder.decode(payload, charBuffer, true);
+        if (!result.isError()) {
+            result = decoder.flush(charBuffer);
+        }
+        if (result.isError()) {
+            result.throwException();
+        }
+        charBuffer.flip();
+        return charBuffer.toString();
+    }
+
     private void parseResponse(HttpResponse response) throws LogCallback.DoneException, IOException {
         final StatusLine status = response.getStatusLine();
         if (status.getStatusCode() != 200) {
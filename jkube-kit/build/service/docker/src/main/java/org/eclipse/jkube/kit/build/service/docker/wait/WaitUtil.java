@@ -13,7 +13,9 @@
  */
 package org.eclipse.jkube.kit.build.service.docker.wait;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.*;
 
 
@@ -26,9 +28,18 @@ public class WaitUtil {
     // how long to wait at max when doing a http ping
     private static final long DEFAULT_MAX_WAIT = 10 * 1000L;
 
-    // How long to wait between pings
+    // How long to wait between pings at most
     private static final long WAIT_RETRY_WAIT = 500;
 
+    // How long to wait after the first ping, doubled after each failed attempt up to WAIT_RETRY_WAIT
+    private static final long INITIAL_WAIT_RETRY_WAIT = 10;
+
+    // Checkers are evaluated concurrently so that slow checks (e.g. HTTP or TCP) don't delay the others
+    private static final ExecutorService CHECKER_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "jkube-wait-checker");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private WaitUtil() {}
 
@@ -56,6 +67,7 @@ public class WaitUtil {
     public static long wait(Precondition precondition, int maxWait, Iterable<WaitChecker> checkers) throws WaitTimeoutException, PreconditionFailedException {
         long max = maxWait > 0 ? maxWait : DEFAULT_MAX_WAIT;
         long now = System.currentTimeMillis();
+        long retryWait = INITIAL_WAIT_RETRY_WAIT;
         try {
             do {
                 if (!precondition.isOk()) {
@@ -69,7 +81,8 @@ public class WaitUtil {
                         return delta(now);
                     }
                 }
-                sleep(WAIT_RETRY_WAIT);
+                sleep(Math.min(retryWait, Math.max(1L, max - delta(now))));
+                retryWait = nextRetryWait(retryWait);
             } while (delta(now) < max);
             throw new WaitTimeoutException("No checker finished successfully", delta(now));
         } finally {
@@ -78,13 +91,40 @@ public class WaitUtil {
         }
     }
 
-    private static boolean check(Iterable<WaitChecker> checkers) {
-        for (WaitChecker checker : checkers) {
-            if (checker.check()) {
-                return true;
+    static long nextRetryWait(long retryWait) {
+        return Math.min(retryWait * 2, WAIT_RETRY_WAIT);
+    }
+
+    // True as soon as any of the checkers succeeds, checkers are evaluated concurrently if there are more than one
+    static boolean check(Iterable<WaitChecker> checkers) {
+        final List<WaitChecker> checkerList = new ArrayList<>();
+        checkers.forEach(checkerList::add);
+        if (checkerList.size() <= 1) {
+            return checkerList.stream().anyMatch(WaitChecker::check);
+        }
+        final CompletionService<Boolean> completionService = new ExecutorCompletionService<>(CHECKER_EXECUTOR);
+        final List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            for (WaitChecker checker : checkerList) {
+                futures.add(completionService.submit(checker::check));
             }
+            for (int it = 0; it < futures.size(); it++) {
+                if (Boolean.TRUE.equals(completionService.take().get())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            futures.forEach(f -> f.cancel(true));
         }
-        return false;
     }
 
     // Give checkers a possibility to clean up
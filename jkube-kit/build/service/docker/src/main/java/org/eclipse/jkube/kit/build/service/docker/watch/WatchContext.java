@@ -47,6 +47,7 @@ public class WatchContext implements Serializable {
   private int watchInterval;
   private boolean keepRunning;
   private String watchPostExec;
+  private boolean deltaSync;
   private GavLabel gavLabel;
   private boolean keepContainer;
   private boolean removeVolumes;
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+
+import mockit.Mocked;
+import mockit.Verifications;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoalescingWatchTaskTest {
+
+  @Mocked
+  private KitLogger logger;
+
+  private List<Runnable> queued;
+  private List<Set<File>> executions;
+
+  @Before
+  public void setUp() {
+    queued = new ArrayList<>();
+    executions = new ArrayList<>();
+  }
+
+  @Test
+  public void trigger_withOverlappingTriggers_shouldCoalesceIntoSingleExecution() {
+    // Given
+    final CoalescingWatchTask task = new CoalescingWatchTask(queued::add, executions::add, "Copy", logger);
+    // When
+    task.trigger(Collections.singletonList(new File("a")));
+    task.trigger(Arrays.asList(new File("b"), new File("a")));
+    runQueued();
+    // Then
+    assertThat(executions).containsExactly(new HashSet<>(Arrays.asList(new File("a"), new File("b"))));
+    new Verifications() {{
+      logger.info("%s completed in %d ms", (Object[]) any);
+      times = 1;
+    }};
+  }
+
+  @Test
+  public void trigger_whileRunning_shouldScheduleNewExecution() {
+    // Given
+    final CoalescingWatchTask[] task = new CoalescingWatchTask[1];
+    task[0] = new CoalescingWatchTask(queued::add, files -> {
+      executions.add(files);
+      if (executions.size() == 1) {
+        task[0].trigger(Collections.singletonList(new File("b")));
+      }
+      return true;
+    }, "Rebuild", logger);
+    // When
+    task[0].trigger(Collections.singletonList(new File("a")));
+    runQueued();
+    // Then
+    assertThat(executions).containsExactly(
+        Collections.singleton(new File("a")), Collections.singleton(new File("b")));
+  }
+
+  @Test
+  public void trigger_withNoWorkPerformed_shouldNotLogLatency() {
+    // Given
+    final CoalescingWatchTask task = new CoalescingWatchTask(queued::add, files -> false, "Copy", logger);
+    // When
+    task.trigger(Collections.singletonList(new File("a")));
+    runQueued();
+    // Then
+    new Verifications() {{
+      logger.info(anyString, any);
+      times = 0;
+    }};
+  }
+
+  private void runQueued() {
+    while (!queued.isEmpty()) {
+      queued.remove(0).run();
+    }
+  }
+}
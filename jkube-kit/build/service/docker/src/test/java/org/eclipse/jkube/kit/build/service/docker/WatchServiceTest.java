@@ -15,10 +15,20 @@ package org.eclipse.jkube.kit.build.service.docker;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.eclipse.jkube.kit.build.api.assembly.AssemblyFiles;
+import org.eclipse.jkube.kit.build.api.assembly.AssemblyFilesChangeDetector;
 import org.eclipse.jkube.kit.build.service.docker.watch.WatchContext;
+import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.WatchImageConfiguration;
@@ -26,12 +36,19 @@ import org.eclipse.jkube.kit.config.image.WatchMode;
 
 import mockit.Mocked;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 public class WatchServiceTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Mocked
     ArchiveService archiveService;
 
@@ -138,4 +155,34 @@ public class WatchServiceTest {
         // Then
         assertTrue(postExecCommandExecuted.get());
     }
+
+    @Test
+    public void watchAssemblyFiles_withChangedFile_shouldRunTaskWithChangedEntries() throws Exception {
+        // Given
+        final File source = temporaryFolder.newFile("source.txt");
+        final AssemblyFiles files = new AssemblyFiles(temporaryFolder.newFolder("build"));
+        files.addEntry(new AssemblyFileEntry(source, new File("source.txt"), null));
+        final BlockingQueue<List<AssemblyFileEntry>> changes = new LinkedBlockingQueue<>();
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        final List<AssemblyFilesChangeDetector> changeDetectors = new ArrayList<>();
+        final WatchService watchService = new WatchService(archiveService, buildService, queryService, runService, logger);
+        try {
+            watchService.watchAssemblyFiles(executor, changeDetectors, files, entries -> {
+                if (!entries.isEmpty()) {
+                    changes.add(entries);
+                }
+            }, 100L, "Copy");
+            // When
+            assertTrue(source.setLastModified(source.lastModified() + 10_000L));
+            // Then
+            final List<AssemblyFileEntry> result = changes.poll(5, TimeUnit.SECONDS);
+            assertNotNull(result);
+            assertEquals(source, result.get(0).getSource());
+        } finally {
+            for (AssemblyFilesChangeDetector changeDetector : changeDetectors) {
+                changeDetector.close();
+            }
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.access.chunked;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityStreamReaderUtilTest {
+
+  @Test
+  public void processJsonStream_withConcatenatedObjects_shouldExtractRelevantFields() throws IOException {
+    // Given
+    final String json = "{\"stream\":\"Step 1/2 : FROM busybox\\n\"}\n" +
+        "{\"status\":\"Downloading\",\"progressDetail\":{\"current\":1,\"total\":2},\"progress\":\"[=> ]\",\"id\":\"abc\"}" +
+        "{\"aux\":{\"ID\":\"sha256:1234\",\"Other\":[1,2]}}\r\n" +
+        "{\"error\":\"failed\",\"errorDetail\":{\"code\":1,\"message\":\"failed badly\"},\"unknown\":{\"nested\":true}}";
+    final RecordingHandler handler = new RecordingHandler();
+    // When
+    EntityStreamReaderUtil.processJsonStream(handler, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    // Then
+    assertThat(handler.started).isTrue();
+    assertThat(handler.stopped).isTrue();
+    assertThat(handler.messages).hasSize(4);
+    assertThat(handler.messages.get(0))
+        .hasFieldOrPropertyWithValue("stream", "Step 1/2 : FROM busybox\n")
+        .hasFieldOrPropertyWithValue("progressDetail", false);
+    assertThat(handler.messages.get(1))
+        .hasFieldOrPropertyWithValue("status", "Downloading")
+        .hasFieldOrPropertyWithValue("progressDetail", true)
+        .hasFieldOrPropertyWithValue("progress", "[=> ]")
+        .hasFieldOrPropertyWithValue("id", "abc");
+    assertThat(handler.messages.get(2)).hasFieldOrPropertyWithValue("auxId", "sha256:1234");
+    assertThat(handler.messages.get(3))
+        .hasFieldOrPropertyWithValue("error", "failed")
+        .hasFieldOrPropertyWithValue("errorDetailMessage", "failed badly");
+  }
+
+  private static final class RecordingHandler implements EntityStreamReaderUtil.JsonEntityResponseHandler {
+    private final List<StreamMessage> messages = new ArrayList<>();
+    private boolean started;
+    private boolean stopped;
+
+    @Override
+    public void process(StreamMessage toProcess) {
+      messages.add(toProcess);
+    }
+
+    @Override
+    public void start() {
+      started = true;
+    }
+
+    @Override
+    public void stop() {
+      stopped = true;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.access.chunked;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
+import org.eclipse.jkube.kit.common.KitLogger;
+
+import mockit.Mocked;
+import mockit.Verifications;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings({"ResultOfMethodCallIgnored", "unused"})
+public class PullOrPushResponseJsonHandlerTest {
+
+  @Mocked
+  private KitLogger log;
+
+  private PullOrPushResponseJsonHandler handler;
+
+  @Before
+  public void setUp() {
+    handler = new PullOrPushResponseJsonHandler(log);
+  }
+
+  @Test
+  public void process_withFrequentProgressUpdates_shouldRateLimitUpdatesPerLayer() throws IOException {
+    // Given
+    final long later = TimeUnit.MILLISECONDS.toNanos(150);
+    final PrimitiveIterator.OfLong times = LongStream.of(0L, 0L, 0L, later, later).iterator();
+    handler = new PullOrPushResponseJsonHandler(log, times::nextLong);
+    // When
+    process(progress("a", "Downloading", "1") +
+        progress("a", "Downloading", "2") +
+        progress("b", "Downloading", "1") +
+        progress("a", "Downloading", "3") +
+        progress("a", "Download complete", ""));
+    // Then
+    new Verifications() {{
+      log.progressUpdate("a", "Downloading", "1"); times = 1;
+      log.progressUpdate("a", "Downloading", "2"); times = 0;
+      log.progressUpdate("b", "Downloading", "1"); times = 1;
+      log.progressUpdate("a", "Downloading", "3"); times = 1;
+      log.progressUpdate("a", "Download complete", ""); times = 1;
+    }};
+  }
+
+  @Test
+  public void process_withStatus_shouldLogInfo() throws IOException {
+    // When
+    process("{\"status\":\"Pulling from library/busybox\"}");
+    // Then
+    new Verifications() {{
+      log.info("%s", "Pulling from library/busybox"); times = 1;
+    }};
+  }
+
+  @Test
+  public void process_withError_shouldThrowException() {
+    assertThatThrownBy(() -> process("{\"error\":\"denied\",\"errorDetail\":{\"message\":\"access denied\"}}"))
+        .isInstanceOf(DockerAccessException.class)
+        .hasMessage("denied (access denied)");
+  }
+
+  private static String progress(String id, String status, String progress) {
+    return String.format("{\"status\":\"%s\",\"progressDetail\":{},\"progress\":\"%s\",\"id\":\"%s\"}",
+        status, progress, id);
+  }
+
+  private void process(String json) throws IOException {
+    EntityStreamReaderUtil.processJsonStream(handler,
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+}
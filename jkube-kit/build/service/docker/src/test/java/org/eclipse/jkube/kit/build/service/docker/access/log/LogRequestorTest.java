@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.access.log;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jkube.kit.build.service.docker.access.UrlBuilder;
+import org.eclipse.jkube.kit.build.service.docker.helper.Timestamp;
+
+import mockit.Expectations;
+import mockit.Mocked;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LogRequestorTest {
+
+    private static final String TIMESTAMP = "2020-01-01T10:00:00.000000000Z";
+
+    @Mocked
+    private CloseableHttpClient client;
+
+    @Mocked
+    private UrlBuilder urlBuilder;
+
+    @Mocked
+    private CloseableHttpResponse response;
+
+    @Test
+    public void fetchLogs_withFramesOfDifferentSizes_shouldDecodeAllMessages() throws Exception {
+        // Given
+        final StringBuilder large = new StringBuilder();
+        for (int it = 0; it < 5000; it++) {
+            large.append((char) ('a' + it % 26));
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writeFrame(stream, 1, TIMESTAMP + " first");
+        writeFrame(stream, 2, TIMESTAMP + " " + large);
+        writeFrame(stream, 1, TIMESTAMP + " élève");
+        mockResponse(stream.toByteArray());
+        final RecordingCallback callback = new RecordingCallback();
+        // When
+        new LogRequestor(client, urlBuilder, "container-id", callback).fetchLogs();
+        // Then
+        assertThat(callback.entries).containsExactly("1:first", "2:" + large, "1:élève");
+        assertThat(callback.errors).isEmpty();
+    }
+
+    private void mockResponse(byte[] content) throws Exception {
+        new Expectations() {{
+            urlBuilder.containerLogs("container-id", false);
+            result = "http://localhost/containers/container-id/logs";
+            client.execute((HttpUriRequest) any);
+            result = response;
+            response.getStatusLine();
+            result = new BasicStatusLine(HttpVersion.HTTP_1_1, 200, "OK");
+            response.getEntity();
+            result = new ByteArrayEntity(content);
+        }};
+    }
+
+    private static void writeFrame(ByteArrayOutputStream stream, int type, String message) {
+        final byte[] payload = message.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer header = ByteBuffer.allocate(8);
+        header.put((byte) type);
+        header.putInt(4, payload.length);
+        stream.write(header.array(), 0, 8);
+        stream.write(payload, 0, payload.length);
+    }
+
+    private static final class RecordingCallback implements LogCallback {
+        private final List<String> entries = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void log(int type, Timestamp timestamp, String txt) {
+            entries.add(type + ":" + txt);
+        }
+
+        @Override
+        public void error(String error) {
+            errors.add(error);
+        }
+
+        @Override
+        public void open() {
+            // NO-OP
+        }
+
+        @Override
+        public void close() {
+            // NO-OP
+        }
+    }
+}
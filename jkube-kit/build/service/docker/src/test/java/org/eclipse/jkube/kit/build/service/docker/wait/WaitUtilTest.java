@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.wait;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WaitUtilTest {
+
+    @Test
+    public void wait_withCheckerReadyAfterFewAttempts_shouldReturnWellBeforeRetryWait() throws Exception {
+        // Given
+        final AtomicInteger attempts = new AtomicInteger();
+        // When
+        final long waited = WaitUtil.wait(new AlwaysOk(), 5000, new StubChecker(() -> attempts.incrementAndGet() >= 3));
+        // Then
+        assertThat(attempts).hasValue(3);
+        assertThat(waited).isLessThan(500L);
+    }
+
+    @Test
+    public void wait_withSlowAndFastCheckers_shouldNotBeBlockedBySlowChecker() throws Exception {
+        // Given
+        final CountDownLatch release = new CountDownLatch(1);
+        final WaitChecker slow = new StubChecker(() -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        });
+        // When
+        final long waited = WaitUtil.wait(new AlwaysOk(), 5000, slow, new StubChecker(() -> true));
+        release.countDown();
+        // Then
+        assertThat(waited).isLessThan(5000L);
+    }
+
+    @Test
+    public void wait_withNoCheckerSucceeding_shouldTimeout() {
+        assertThatThrownBy(() -> WaitUtil.wait(new AlwaysOk(), 100,
+            new StubChecker(() -> false), new StubChecker(() -> false)))
+            .isInstanceOf(WaitTimeoutException.class)
+            .hasMessage("No checker finished successfully");
+    }
+
+    @Test
+    public void nextRetryWait_shouldDoubleUpToMaximum() {
+        assertThat(WaitUtil.nextRetryWait(10)).isEqualTo(20);
+        assertThat(WaitUtil.nextRetryWait(320)).isEqualTo(500);
+        assertThat(WaitUtil.nextRetryWait(500)).isEqualTo(500);
+    }
+
+    private static final class AlwaysOk implements WaitUtil.Precondition {
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public void cleanup() {
+            // NO-OP
+        }
+    }
+
+    private static final class StubChecker implements WaitChecker {
+        private final BooleanSupplier check;
+
+        private StubChecker(BooleanSupplier check) {
+            this.check = check;
+        }
+
+        @Override
+        public boolean check() {
+            return check.getAsBoolean();
+        }
+
+        @Override
+        public void cleanUp() {
+            // NO-OP
+        }
+
+        @Override
+        public String getLogLabel() {
+            return "stub";
+        }
+    }
+}
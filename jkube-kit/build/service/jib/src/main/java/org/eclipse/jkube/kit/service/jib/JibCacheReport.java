@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.service.jib;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+
+import com.google.cloud.tools.jib.api.LogEvent;
+
+/**
+ * Collects the JIB layer cache hits and misses of a single build.
+ *
+ * <p> Application layers are tracked from the events JIB dispatches while building each layer (a layer is only
+ * reported as built when it wasn't found in the application layers cache). Base image layers are tracked by
+ * comparing the contents of the base image layers cache before and after the build.
+ */
+class JibCacheReport {
+
+  private static final Pattern BUILDING_LAYER = Pattern.compile("^Building (.+) layer\\.\\.\\.$");
+  private static final Pattern BUILT_LAYER = Pattern.compile("^Building (.+) layer built (\\S+)$");
+  private static final String LAYERS_DIRECTORY = "layers";
+
+  private final File baseImageLayersDirectory;
+  private final Set<String> initialBaseImageLayers;
+  private final Set<String> applicationLayers;
+  private final Set<String> builtApplicationLayers;
+
+  JibCacheReport(Path baseImageLayersCache) {
+    baseImageLayersDirectory = baseImageLayersCache.resolve(LAYERS_DIRECTORY).toFile();
+    initialBaseImageLayers = listLayers(baseImageLayersDirectory);
+    applicationLayers = Collections.synchronizedSet(new LinkedHashSet<>());
+    builtApplicationLayers = Collections.synchronizedSet(new LinkedHashSet<>());
+  }
+
+  Consumer<LogEvent> logEventHandler() {
+    return le -> {
+      final Matcher built = BUILT_LAYER.matcher(le.getMessage());
+      if (built.matches()) {
+        builtApplicationLayers.add(built.group(1));
+        return;
+      }
+      final Matcher building = BUILDING_LAYER.matcher(le.getMessage());
+      if (building.matches()) {
+        applicationLayers.add(building.group(1));
+      }
+    };
+  }
+
+  Set<String> getApplicationLayerHits() {
+    synchronized (applicationLayers) {
+      return applicationLayers.stream().filter(l -> !builtApplicationLayers.contains(l))
+          .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+  }
+
+  Set<String> getApplicationLayerMisses() {
+    synchronized (builtApplicationLayers) {
+      return new LinkedHashSet<>(builtApplicationLayers);
+    }
+  }
+
+  Set<String> getPulledBaseImageLayers() {
+    final Set<String> pulled = listLayers(baseImageLayersDirectory);
+    pulled.removeAll(initialBaseImageLayers);
+    return pulled;
+  }
+
+  void report(KitLogger logger) {
+    for (String layer : getApplicationLayerHits()) {
+      logger.info("JIB cache hit for application layer: %s", layer);
+    }
+    for (String layer : getApplicationLayerMisses()) {
+      logger.info("JIB cache miss for application layer: %s", layer);
+    }
+    final Set<String> pulledBaseImageLayers = getPulledBaseImageLayers();
+    pulledBaseImageLayers.forEach(l -> logger.debug("JIB cache miss for base image layer: %s", l));
+    logger.info("JIB cache: %d application layer(s) reused, %d rebuilt, %d base image layer(s) pulled",
+        getApplicationLayerHits().size(), getApplicationLayerMisses().size(), pulledBaseImageLayers.size());
+  }
+
+  private static Set<String> listLayers(File layersDirectory) {
+    return Optional.ofNullable(layersDirectory.list())
+        .map(Arrays::asList)
+        .<Set<String>>map(LinkedHashSet::new)
+        .orElse(new LinkedHashSet<>());
+  }
+}
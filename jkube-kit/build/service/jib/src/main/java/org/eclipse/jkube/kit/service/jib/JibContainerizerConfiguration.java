@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.service.jib;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration applied to the JIB {@link com.google.cloud.tools.jib.api.Containerizer} for image builds.
+ */
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class JibContainerizerConfiguration {
+
+  /**
+   * Directory for the base image layers cache, JIB's default user-level cache is used if not provided.
+   */
+  private File baseImageLayersCacheDirectory;
+
+  /**
+   * Directory for the application layers cache, JIB's default (a temporary directory) is used if not provided.
+   */
+  private File applicationLayersCacheDirectory;
+
+  /**
+   * Executor to run the JIB build tasks, a new executor is created (and shutdown) for each build if not provided.
+   *
+   * <p> The provided executor is never shutdown so that it can be shared by several builds.
+   */
+  private ExecutorService executorService;
+
+  /**
+   * Whether to use a fixed image creation time so that image digests only change when the image content does.
+   */
+  private boolean reproducible;
+}
@@ -18,6 +18,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -27,6 +30,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -82,6 +86,7 @@ public class JibServiceUtil {
 
     private static final long JIB_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 10L;
     private static final String BUSYBOX = "busybox:latest";
+    private static ExecutorService sharedExecutorService;
 
     /**
      * Build container image using JIB
@@ -94,24 +99,132 @@ public class JibServiceUtil {
     public static void buildContainer(JibContainerBuilder jibContainerBuilder, TarImage image, KitLogger logger)
             throws InterruptedException {
 
-        final ExecutorService jibBuildExecutor = Executors.newCachedThreadPool();
+        buildContainer(jibContainerBuilder, image, JibContainerizerConfiguration.builder().build(), logger);
+    }
+
+    /**
+     * Build container image using JIB
+     *
+     * @param jibContainerBuilder jib container builder object
+     * @param image tarball for image
+     * @param configuration cache directories and executor to use for the build
+     * @param logger kit logger
+     * @throws InterruptedException in case thread is interrupted
+     */
+    public static void buildContainer(
+        JibContainerBuilder jibContainerBuilder, TarImage image, JibContainerizerConfiguration configuration,
+        KitLogger logger) throws InterruptedException {
+
+        try {
+            containerize(jibContainerBuilder, Containerizer.to(image), configuration, logger);
+        } catch (CacheDirectoryCreationException | IOException | ExecutionException | RegistryException ex) {
+            logger.error("Unable to build the image tarball: ", ex);
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Build container image using JIB and push it directly to the target registry.
+     *
+     * <p> All of the image tags are pushed in a single operation, so layers are uploaded only once and layers
+     * already present in the registry are skipped.
+     *
+     * @param jibContainerBuilder jib container builder object
+     * @param imageConfiguration ImageConfiguration of the image to build and push
+     * @param pushCredentials push credentials
+     * @param logger kit logger
+     * @throws InterruptedException in case thread is interrupted
+     */
+    public static void buildAndPushContainer(
+        JibContainerBuilder jibContainerBuilder, ImageConfiguration imageConfiguration, Credential pushCredentials,
+        KitLogger logger) throws InterruptedException {
+
+        buildAndPushContainer(jibContainerBuilder, imageConfiguration, pushCredentials,
+            JibContainerizerConfiguration.builder().build(), logger);
+    }
+
+    /**
+     * Build container image using JIB and push it directly to the target registry.
+     *
+     * @param jibContainerBuilder jib container builder object
+     * @param imageConfiguration ImageConfiguration of the image to build and push
+     * @param pushCredentials push credentials
+     * @param configuration cache directories and executor to use for the build
+     * @param logger kit logger
+     * @throws InterruptedException in case thread is interrupted
+     */
+    public static void buildAndPushContainer(
+        JibContainerBuilder jibContainerBuilder, ImageConfiguration imageConfiguration, Credential pushCredentials,
+        JibContainerizerConfiguration configuration, KitLogger logger) throws InterruptedException {
+
+        final String imageName = getFullImageName(imageConfiguration, null);
+        try {
+            final Containerizer containerizer = Containerizer.to(getRegistryImage(imageName, pushCredentials));
+            final String imageTag = new ImageName(imageName).getTag();
+            for (String tag : getAllImageTags(imageConfiguration.getBuildConfiguration().getTags(), imageName)) {
+                if (!tag.equals(imageTag)) {
+                    containerizer.withAdditionalTag(tag);
+                }
+            }
+            containerize(jibContainerBuilder, containerizer, configuration, logger);
+        } catch (RegistryException | CacheDirectoryCreationException | InvalidImageReferenceException | IOException | ExecutionException e) {
+            logger.error("Exception occurred while building and pushing the image: %s, %s", imageName, e.getMessage());
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns an executor to run JIB build tasks that can be shared by all of the image builds performed
+     * within the same JVM (e.g. by all of the modules in a multi-module build).
+     *
+     * <p> JIB steps wait on the results of other steps submitted to the same executor, so the executor is unbounded
+     * (threads are cached and reused) to prevent builds from deadlocking. It's created when first needed, uses daemon
+     * threads and is never shutdown.
+     *
+     * @return the shared executor
+     */
+    public static synchronized ExecutorService getSharedExecutorService() {
+        if (sharedExecutorService == null) {
+            final AtomicInteger threadCount = new AtomicInteger();
+            sharedExecutorService = Executors.newCachedThreadPool(r -> {
+                final Thread thread = new Thread(r, "jkube-jib-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return sharedExecutorService;
+    }
+
+    private static void containerize(
+        JibContainerBuilder jibContainerBuilder, Containerizer containerizer, JibContainerizerConfiguration configuration,
+        KitLogger logger) throws InterruptedException, ExecutionException, RegistryException, CacheDirectoryCreationException, IOException {
+
+        final ExecutorService jibBuildExecutor = Optional.ofNullable(configuration.getExecutorService())
+            .orElseGet(Executors::newCachedThreadPool);
+        final Path baseImageLayersCache = Optional.ofNullable(configuration.getBaseImageLayersCacheDirectory())
+            .map(File::toPath).orElse(Containerizer.DEFAULT_BASE_CACHE_DIRECTORY);
+        containerizer.setBaseImageLayersCache(baseImageLayersCache);
+        Optional.ofNullable(configuration.getApplicationLayersCacheDirectory()).map(File::toPath)
+            .ifPresent(containerizer::setApplicationLayersCache);
+        final JibCacheReport cacheReport = new JibCacheReport(baseImageLayersCache);
         try {
-            jibContainerBuilder.setCreationTime(Instant.now());
-            jibContainerBuilder.containerize(Containerizer.to(image)
+            jibContainerBuilder.setCreationTime(configuration.isReproducible() ? Instant.EPOCH : Instant.now());
+            jibContainerBuilder.containerize(containerizer
                 .setAllowInsecureRegistries(true)
                 .setExecutorService(jibBuildExecutor)
                 .addEventHandler(LogEvent.class, log(logger))
+                .addEventHandler(LogEvent.class, cacheReport.logEventHandler())
                 .addEventHandler(ProgressEvent.class, new ProgressEventHandler(logUpdate())));
             logUpdateFinished();
-        } catch (CacheDirectoryCreationException | IOException | ExecutionException | RegistryException ex) {
-            logger.error("Unable to build the image tarball: ", ex);
-            throw new IllegalStateException(ex);
+            cacheReport.report(logger);
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
             throw ex;
         } finally {
-            jibBuildExecutor.shutdown();
-            jibBuildExecutor.awaitTermination(JIB_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (configuration.getExecutorService() == null) {
+                jibBuildExecutor.shutdown();
+                jibBuildExecutor.awaitTermination(JIB_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
         }
     }
 
@@ -141,13 +254,29 @@ public class JibServiceUtil {
      * @param log                Logger
      */
     public static void jibPush(ImageConfiguration imageConfiguration, Credential pushCredentials, File tarArchive, KitLogger log) {
+        jibPush(imageConfiguration, pushCredentials, tarArchive, JibContainerizerConfiguration.builder().build(), log);
+    }
+
+    /**
+     * Push Image to registry using JIB
+     *
+     * @param imageConfiguration ImageConfiguration
+     * @param pushCredentials    push credentials
+     * @param tarArchive         tar archive built during build goal
+     * @param configuration      executor and creation time settings to use for the push
+     * @param log                Logger
+     */
+    public static void jibPush(
+        ImageConfiguration imageConfiguration, Credential pushCredentials, File tarArchive,
+        JibContainerizerConfiguration configuration, KitLogger log) {
+
         BuildConfiguration buildImageConfiguration = imageConfiguration.getBuildConfiguration();
         String imageName = getFullImageName(imageConfiguration, null);
         try {
             for (String tag : getAllImageTags(buildImageConfiguration.getTags(), imageName)) {
                 String imageNameWithTag = getFullImageName(imageConfiguration, tag);
                 log.info("Pushing image: %s", imageNameWithTag);
-                pushImage(TarImage.at(tarArchive.toPath()), imageNameWithTag, pushCredentials, log);
+                pushImage(TarImage.at(tarArchive.toPath()), imageNameWithTag, pushCredentials, configuration, log);
             }
         } catch (IllegalStateException e) {
             log.error("Exception occurred while pushing the image: %s", imageConfiguration.getName());
@@ -158,12 +287,15 @@ public class JibServiceUtil {
         }
     }
 
-    private static void pushImage(TarImage baseImage, String targetImageName, Credential credential, KitLogger logger)
-            throws InterruptedException {
+    private static void pushImage(
+        TarImage baseImage, String targetImageName, Credential credential, JibContainerizerConfiguration configuration,
+        KitLogger logger) throws InterruptedException {
 
-        final ExecutorService jibBuildExecutor = Executors.newCachedThreadPool();
+        final ExecutorService jibBuildExecutor = Optional.ofNullable(configuration.getExecutorService())
+            .orElseGet(Executors::newCachedThreadPool);
         try {
-            submitPushToJib(baseImage, getRegistryImage(targetImageName, credential), jibBuildExecutor, logger);
+            submitPushToJib(baseImage, getRegistryImage(targetImageName, credential), jibBuildExecutor,
+                configuration.isReproducible() ? Instant.EPOCH : Instant.now(), logger);
         } catch (RegistryException | CacheDirectoryCreationException | InvalidImageReferenceException | IOException | ExecutionException e) {
             logger.error("Exception occurred while pushing the image: %s, %s", targetImageName, e.getMessage());
             throw new IllegalStateException(e.getMessage(), e);
@@ -171,8 +303,10 @@ public class JibServiceUtil {
             logger.error("Thread interrupted", ex);
             throw ex;
         } finally {
-            jibBuildExecutor.shutdown();
-            jibBuildExecutor.awaitTermination(JIB_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (configuration.getExecutorService() == null) {
+                jibBuildExecutor.shutdown();
+                jibBuildExecutor.awaitTermination(JIB_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
         }
     }
 
@@ -220,8 +354,8 @@ public class JibServiceUtil {
         return tagSet;
     }
 
-    private static void submitPushToJib(TarImage baseImage, RegistryImage targetImage, ExecutorService jibBuildExecutor, KitLogger logger) throws InterruptedException, ExecutionException, RegistryException, CacheDirectoryCreationException, IOException {
-        Jib.from(baseImage).setCreationTime(Instant.now()).containerize(Containerizer.to(targetImage)
+    private static void submitPushToJib(TarImage baseImage, RegistryImage targetImage, ExecutorService jibBuildExecutor, Instant creationTime, KitLogger logger) throws InterruptedException, ExecutionException, RegistryException, CacheDirectoryCreationException, IOException {
+        Jib.from(baseImage).setCreationTime(creationTime).containerize(Containerizer.to(targetImage)
             .setAllowInsecureRegistries(true)
             .setExecutorService(jibBuildExecutor)
             .addEventHandler(LogEvent.class, log(logger))
@@ -272,31 +406,115 @@ public class JibServiceUtil {
 
     @Nonnull
     public static List<FileEntriesLayer> layers(BuildDirs buildDirs, Map<Assembly, List<AssemblyFileEntry>> layers) {
+        return layers(buildDirs, layers, false);
+    }
+
+    /**
+     * Converts the provided assembly layers into JIB layers.
+     *
+     * <p> When <code>split</code> is enabled, the entries of each assembly layer are further split into
+     * dependencies, snapshot dependencies, resources and classes layers (in that order, from the least to the
+     * most frequently changing one). Empty layers are omitted. This way a change in the application code only
+     * invalidates the layers containing the changed files, while the rest can be reused from the cache and
+     * the target registry.
+     *
+     * @param buildDirs build directories for the image
+     * @param layers the assembly layers with their resolved entries
+     * @param split whether to split each assembly layer into dependencies, resources and classes layers
+     * @return the JIB layers
+     */
+    @Nonnull
+    public static List<FileEntriesLayer> layers(
+        BuildDirs buildDirs, Map<Assembly, List<AssemblyFileEntry>> layers, boolean split) {
+
         final List<FileEntriesLayer> fileEntriesLayers = new ArrayList<>();
         for (Map.Entry<Assembly, List<AssemblyFileEntry>> layer : layers.entrySet()) {
-            final FileEntriesLayer.Builder fel = FileEntriesLayer.builder();
             final String layerId = layer.getKey().getId();
             final Path outputPath;
             if (StringUtils.isBlank(layerId)) {
                 outputPath = buildDirs.getOutputDirectory().toPath();
             } else {
-                fel.setName(layerId);
                 outputPath = new File(buildDirs.getOutputDirectory(), layerId).toPath();
             }
-            for (AssemblyFileEntry afe : layer.getValue()) {
-                final Path source = afe.getSource().toPath();
-                final AbsoluteUnixPath target = AbsoluteUnixPath.get(StringUtils.prependIfMissing(
-                    FilenameUtils.separatorsToUnix(outputPath.relativize(afe.getDest().toPath()).normalize().toString()), "/"));
-                final FilePermissions permissions = StringUtils.isNotBlank(afe.getFileMode()) ?
-                    FilePermissions.fromOctalString(StringUtils.right(afe.getFileMode(), 3)) :
-                    DEFAULT_FILE_PERMISSIONS_PROVIDER.get(source, target);
-                fel.addEntry(source, target, permissions);
+            if (split) {
+                final Map<SplitLayer, List<AssemblyFileEntry>> splitEntries = layer.getValue().stream()
+                    .collect(Collectors.groupingBy(SplitLayer::of, () -> new EnumMap<>(SplitLayer.class), Collectors.toList()));
+                splitEntries.forEach((splitLayer, entries) -> fileEntriesLayers.add(
+                    fileEntriesLayer(splitLayer.layerName(layerId), outputPath, entries)));
+            } else {
+                fileEntriesLayers.add(fileEntriesLayer(layerId, outputPath, layer.getValue()));
             }
-            fileEntriesLayers.add(fel.build());
         }
         return fileEntriesLayers;
     }
 
+    private static FileEntriesLayer fileEntriesLayer(String name, Path outputPath, List<AssemblyFileEntry> entries) {
+        final FileEntriesLayer.Builder fel = FileEntriesLayer.builder();
+        if (StringUtils.isNotBlank(name)) {
+            fel.setName(name);
+        }
+        for (AssemblyFileEntry afe : entries) {
+            final Path source = afe.getSource().toPath();
+            final AbsoluteUnixPath target = AbsoluteUnixPath.get(StringUtils.prependIfMissing(
+                FilenameUtils.separatorsToUnix(outputPath.relativize(afe.getDest().toPath()).normalize().toString()), "/"));
+            final FilePermissions permissions = StringUtils.isNotBlank(afe.getFileMode()) ?
+                FilePermissions.fromOctalString(StringUtils.right(afe.getFileMode(), 3)) :
+                DEFAULT_FILE_PERMISSIONS_PROVIDER.get(source, target);
+            fel.addEntry(source, target, permissions, FileEntriesLayer.DEFAULT_MODIFICATION_TIME);
+        }
+        return fel.build();
+    }
+
+    /**
+     * Layers in which the entries of an assembly layer are split, declared from the least to the most frequently
+     * changing one.
+     *
+     * <p> Entries are classified as they are, archives are not exploded, so a fat jar ends up in the classes layer.
+     */
+    enum SplitLayer {
+        DEPENDENCIES("dependencies"),
+        SNAPSHOT_DEPENDENCIES("snapshot-dependencies"),
+        RESOURCES("resources"),
+        CLASSES("classes");
+
+        private static final Set<String> DEPENDENCY_DIRECTORIES = new HashSet<>(Arrays.asList(
+            "lib", "libs", "dependency", "dependencies"));
+
+        private final String suffix;
+
+        SplitLayer(String suffix) {
+            this.suffix = suffix;
+        }
+
+        String layerName(String layerId) {
+            return StringUtils.isBlank(layerId) ? suffix : layerId + "-" + suffix;
+        }
+
+        static SplitLayer of(AssemblyFileEntry entry) {
+            final File source = entry.getSource();
+            final String name = source.getName();
+            if (source.isDirectory()) {
+                return RESOURCES;
+            }
+            if (name.endsWith(".jar") && isInDependencyDirectory(entry.getDest())) {
+                return name.contains("-SNAPSHOT") ? SNAPSHOT_DEPENDENCIES : DEPENDENCIES;
+            }
+            if (name.endsWith(".class") || name.endsWith(".jar") || name.endsWith(".war")) {
+                return CLASSES;
+            }
+            return RESOURCES;
+        }
+
+        private static boolean isInDependencyDirectory(File file) {
+            for (File parent = file.getParentFile(); parent != null; parent = parent.getParentFile()) {
+                if (DEPENDENCY_DIRECTORIES.contains(parent.getName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * Generates a progress display.
      *
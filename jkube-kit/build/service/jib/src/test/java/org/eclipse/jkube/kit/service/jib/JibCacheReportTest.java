@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.service.jib;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+
+import com.google.cloud.tools.jib.api.LogEvent;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JibCacheReportTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File baseImageCache;
+
+  @Before
+  public void setUp() throws IOException {
+    baseImageCache = temporaryFolder.newFolder("base-cache");
+  }
+
+  @Test
+  public void logEventHandler_withBuildEvents_shouldTrackApplicationLayerHitsAndMisses() {
+    // Given
+    final JibCacheReport cacheReport = new JibCacheReport(baseImageCache.toPath());
+    final Consumer<LogEvent> handler = cacheReport.logEventHandler();
+    // When
+    handler.accept(LogEvent.progress("Building dependencies layer..."));
+    handler.accept(LogEvent.progress("Building classes layer..."));
+    handler.accept(LogEvent.debug("Building classes layer built sha256:1337"));
+    handler.accept(LogEvent.info("Using base image with digest: sha256:0000"));
+    // Then
+    assertThat(cacheReport.getApplicationLayerHits()).containsExactly("dependencies");
+    assertThat(cacheReport.getApplicationLayerMisses()).containsExactly("classes");
+  }
+
+  @Test
+  public void getPulledBaseImageLayers_withNewLayersInCache_shouldReturnOnlyNewLayers() throws IOException {
+    // Given
+    final File layers = new File(baseImageCache, "layers");
+    assertThat(new File(layers, "existing-layer").mkdirs()).isTrue();
+    final JibCacheReport cacheReport = new JibCacheReport(baseImageCache.toPath());
+    // When
+    assertThat(new File(layers, "new-layer").mkdirs()).isTrue();
+    // Then
+    assertThat(cacheReport.getPulledBaseImageLayers()).containsExactly("new-layer");
+  }
+
+  @Test
+  public void getPulledBaseImageLayers_withNonExistentCache_shouldReturnEmpty() {
+    // Given
+    final JibCacheReport cacheReport = new JibCacheReport(new File(baseImageCache, "not-there").toPath());
+    // Then
+    assertThat(cacheReport.getPulledBaseImageLayers()).isEmpty();
+  }
+
+  @Test
+  public void report_shouldLogSummary(@Mocked KitLogger logger) {
+    // Given
+    final JibCacheReport cacheReport = new JibCacheReport(baseImageCache.toPath());
+    cacheReport.logEventHandler().accept(LogEvent.progress("Building resources layer..."));
+    // When
+    cacheReport.report(logger);
+    // Then
+    // @formatter:off
+    new Verifications() {{
+      logger.info("JIB cache hit for application layer: %s", "resources"); times = 1;
+      logger.info("JIB cache: %d application layer(s) reused, %d rebuilt, %d base image layer(s) pulled", 1, 0, 0);
+      times = 1;
+    }};
+    // @formatter:on
+  }
+}
@@ -15,6 +15,8 @@ package org.eclipse.jkube.kit.service.jib;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -22,6 +24,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jkube.kit.build.api.assembly.BuildDirs;
 import org.eclipse.jkube.kit.common.Assembly;
@@ -30,11 +35,15 @@ import org.eclipse.jkube.kit.common.AssemblyFile;
 import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.Arguments;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 
+import com.google.cloud.tools.jib.api.Containerizer;
 import com.google.cloud.tools.jib.api.JibContainerBuilder;
+import com.google.cloud.tools.jib.api.RegistryImage;
+import com.google.cloud.tools.jib.api.TarImage;
 import com.google.cloud.tools.jib.api.buildplan.AbsoluteUnixPath;
 import com.google.cloud.tools.jib.api.buildplan.FileEntriesLayer;
 import com.google.cloud.tools.jib.api.buildplan.ImageFormat;
@@ -93,6 +102,78 @@ public class JibServiceUtilTest {
         // @formatter:on
     }
 
+    @Test
+    public void buildAndPushContainer_withMultipleTags_shouldContainerizeOnceWithAdditionalTags(
+        @Mocked JibContainerBuilder containerBuilder, @Mocked Containerizer containerizer, @Mocked KitLogger logger)
+        throws Exception {
+        // Given
+        final ImageConfiguration imageConfiguration = ImageConfiguration.builder()
+            .name("registry.example.com/test/test-project:0.0.1")
+            .build(BuildConfiguration.builder()
+                .tags(Arrays.asList("0.0.1", "latest", "0.0.1-SNAPSHOT"))
+                .build())
+            .build();
+        // When
+        JibServiceUtil.buildAndPushContainer(containerBuilder, imageConfiguration, null, logger);
+        // Then
+        // @formatter:off
+        new Verifications() {{
+            Containerizer.to(withInstanceOf(RegistryImage.class)); times = 1;
+            containerizer.withAdditionalTag("latest"); times = 1;
+            containerizer.withAdditionalTag("0.0.1-SNAPSHOT"); times = 1;
+            containerizer.withAdditionalTag("0.0.1"); times = 0;
+            containerBuilder.containerize(containerizer); times = 1;
+        }};
+        // @formatter:on
+    }
+
+    @Test
+    public void buildContainer_withContainerizerConfiguration_shouldUseProvidedCachesAndExecutor(
+        @Mocked JibContainerBuilder containerBuilder, @Mocked Containerizer containerizer, @Mocked TarImage tarImage,
+        @Mocked KitLogger logger) throws Exception {
+        // Given
+        final File baseImageCache = temporaryFolder.newFolder("base-cache");
+        final File applicationCache = temporaryFolder.newFolder("application-cache");
+        final ExecutorService executorService = JibServiceUtil.getSharedExecutorService();
+        final JibContainerizerConfiguration configuration = JibContainerizerConfiguration.builder()
+            .baseImageLayersCacheDirectory(baseImageCache)
+            .applicationLayersCacheDirectory(applicationCache)
+            .executorService(executorService)
+            .build();
+        // When
+        JibServiceUtil.buildContainer(containerBuilder, tarImage, configuration, logger);
+        // Then
+        // @formatter:off
+        new Verifications() {{
+            containerizer.setBaseImageLayersCache(baseImageCache.toPath()); times = 1;
+            containerizer.setApplicationLayersCache(applicationCache.toPath()); times = 1;
+            containerizer.setExecutorService(executorService); times = 1;
+            containerBuilder.containerize(containerizer); times = 1;
+        }};
+        // @formatter:on
+        assertThat(executorService.isShutdown()).isFalse();
+    }
+
+    @Test
+    public void getSharedExecutorService_withMultipleCalls_shouldReuseExecutor() {
+        // When
+        final ExecutorService first = JibServiceUtil.getSharedExecutorService();
+        final ExecutorService second = JibServiceUtil.getSharedExecutorService();
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.isShutdown()).isFalse();
+    }
+
+    @Test
+    public void getSharedExecutorService_withTasksWaitingOnOtherTasks_shouldNotDeadlock() throws Exception {
+        // Given
+        final ExecutorService executorService = JibServiceUtil.getSharedExecutorService();
+        // When
+        final Future<String> result = executorService.submit(() -> executorService.submit(() -> "inner").get());
+        // Then
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("inner");
+    }
+
     @Test
     public void testAppendOriginalImageNameTagIfApplicable() {
         // Given
@@ -175,6 +256,63 @@ public class JibServiceUtilTest {
             .containsExactly("layer-1", "", "jkube-generated-layer-final-artifact");
     }
 
+    @Test
+    public void layers_withSplitEnabled_shouldSplitIntoDependenciesResourcesAndClassesLayers() throws IOException {
+        // Given
+        final BuildDirs buildDirs = new BuildDirs("layers-test", JKubeConfiguration.builder()
+            .outputDirectory("target/docker")
+            .project(JavaProject.builder().baseDirectory(temporaryFolder.getRoot()).build())
+            .build());
+        final Path output = buildDirs.getOutputDirectory().toPath().resolve("app").resolve("deployments");
+        final Map<Assembly, List<AssemblyFileEntry>> originalLayers = new LinkedHashMap<>();
+        originalLayers.put(Assembly.builder().id("app").build(), Arrays.asList(
+            entry(temporaryFolder.newFile("app.jar"), output.resolve("app.jar")),
+            entry(temporaryFolder.newFile("application.properties"), output.resolve("application.properties")),
+            entry(temporaryFolder.newFile("Main.class"), output.resolve("classes").resolve("Main.class")),
+            entry(temporaryFolder.newFile("dep-1.0.jar"), output.resolve("lib").resolve("dep-1.0.jar")),
+            entry(temporaryFolder.newFile("dep-2.0-SNAPSHOT.jar"), output.resolve("lib").resolve("dep-2.0-SNAPSHOT.jar")),
+            entry(temporaryFolder.newFolder("lib"), output.resolve("lib"))
+        ));
+        originalLayers.put(Assembly.builder().build(), Collections.singletonList(
+            entry(temporaryFolder.newFile("other.jar"), buildDirs.getOutputDirectory().toPath().resolve("other.jar"))
+        ));
+        // When
+        final List<FileEntriesLayer> result = JibServiceUtil.layers(buildDirs, originalLayers, true);
+        // Then
+        assertThat(result)
+            .extracting(FileEntriesLayer::getName)
+            .containsExactly("app-dependencies", "app-snapshot-dependencies", "app-resources", "app-classes", "classes");
+        assertThat(result.get(0).getEntries()).extracting("extractionPath.unixPath")
+            .containsExactly("/deployments/lib/dep-1.0.jar");
+        assertThat(result.get(1).getEntries()).extracting("extractionPath.unixPath")
+            .containsExactly("/deployments/lib/dep-2.0-SNAPSHOT.jar");
+        assertThat(result.get(2).getEntries()).extracting("extractionPath.unixPath")
+            .containsExactlyInAnyOrder("/deployments/application.properties", "/deployments/lib");
+        assertThat(result.get(3).getEntries()).extracting("extractionPath.unixPath")
+            .containsExactlyInAnyOrder("/deployments/app.jar", "/deployments/classes/Main.class");
+        assertThat(result).flatExtracting(FileEntriesLayer::getEntries)
+            .extracting("modificationTime").containsOnly(FileEntriesLayer.DEFAULT_MODIFICATION_TIME);
+    }
+
+    @Test
+    public void buildContainer_withReproducibleConfiguration_shouldUseFixedCreationTime(
+        @Mocked JibContainerBuilder containerBuilder, @Mocked Containerizer containerizer, @Mocked TarImage tarImage,
+        @Mocked KitLogger logger) throws Exception {
+        // When
+        JibServiceUtil.buildContainer(containerBuilder, tarImage,
+            JibContainerizerConfiguration.builder().reproducible(true).build(), logger);
+        // Then
+        // @formatter:off
+        new Verifications() {{
+            containerBuilder.setCreationTime(Instant.EPOCH); times = 1;
+        }};
+        // @formatter:on
+    }
+
+    private static AssemblyFileEntry entry(File source, Path dest) {
+        return AssemblyFileEntry.builder().source(source).dest(dest.toFile()).build();
+    }
+
     private ImageConfiguration getSampleImageConfiguration() {
         return ImageConfiguration.builder()
                 .name("test/test-project")
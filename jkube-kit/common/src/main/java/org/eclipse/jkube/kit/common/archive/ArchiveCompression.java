@@ -36,6 +36,16 @@ public enum ArchiveCompression {
         }
     },
 
+    /**
+     * Same as {@link #gzip} but compressing the content in parallel blocks.
+     */
+    pgzip(TarCompressionMethod.gzip,"tar.gz") { // NOSONAR
+        @Override
+        public OutputStream wrapOutputStream(OutputStream out) throws IOException {
+            return new ParallelGZIPOutputStream(out);
+        }
+    },
+
     bzip2(TarCompressionMethod.bzip2,"tar.bz") { // NOSONAR
         @Override
         public OutputStream wrapOutputStream(OutputStream out) throws IOException {
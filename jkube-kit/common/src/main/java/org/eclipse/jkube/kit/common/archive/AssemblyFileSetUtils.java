@@ -84,12 +84,39 @@ public class AssemblyFileSetUtils {
    * @return List containing the copied {@link AssemblyFileEntry} for the processed {@link AssemblyFileSet}
    * @throws IOException in case something goes wrong when performing File operations.
    */
-  @SuppressWarnings("squid:S3864")
   @Nonnull
   public static List<AssemblyFileEntry> processAssemblyFileSet(
       File baseDirectory, File outputDirectory, AssemblyFileSet assemblyFileSet,
       Assembly layer, AssemblyConfiguration assemblyConfiguration) throws IOException {
 
+    return processAssemblyFileSet(baseDirectory, outputDirectory, assemblyFileSet, layer, assemblyConfiguration, true);
+  }
+
+  /**
+   * Same as {@link #processAssemblyFileSet(File, File, AssemblyFileSet, Assembly, AssemblyConfiguration)} but
+   * without copying any file, the returned entries point to the location where the files would be copied to.
+   *
+   * @param baseDirectory directory from where to resolve source files.
+   * @param outputDirectory directory where files would be output.
+   * @param assemblyFileSet fileSet to process.
+   * @param layer the layer to which fileSet belongs to.
+   * @param assemblyConfiguration configuration for assembly.
+   * @return List containing the {@link AssemblyFileEntry} for the processed {@link AssemblyFileSet}
+   * @throws IOException in case something goes wrong when performing File operations.
+   */
+  @Nonnull
+  public static List<AssemblyFileEntry> resolveAssemblyFileSetEntries(
+      File baseDirectory, File outputDirectory, AssemblyFileSet assemblyFileSet,
+      Assembly layer, AssemblyConfiguration assemblyConfiguration) throws IOException {
+
+    return processAssemblyFileSet(baseDirectory, outputDirectory, assemblyFileSet, layer, assemblyConfiguration, false);
+  }
+
+  @SuppressWarnings("squid:S3864")
+  private static List<AssemblyFileEntry> processAssemblyFileSet(
+      File baseDirectory, File outputDirectory, AssemblyFileSet assemblyFileSet,
+      Assembly layer, AssemblyConfiguration assemblyConfiguration, boolean copy) throws IOException {
+
     final File sourceDirectory = resolveSourceDirectory(baseDirectory, assemblyFileSet);
     Objects.requireNonNull(assemblyConfiguration.getTargetDir(), "Assembly Configuration target dir is required");
     if (!sourceDirectory.exists()) {
@@ -117,19 +144,25 @@ public class AssemblyFileSetUtils {
     final List<AssemblyFileEntry> allEntries = new ArrayList<>();
     for (String include : includes) {
       final String effectiveInclude = isSelfPath(include) ? "**" : include;
-      allEntries.addAll(processInclude(sourceDirectory.toPath(), effectiveInclude, destinationDirectory.toPath(), assemblyFileSet));
+      allEntries.addAll(processInclude(
+          sourceDirectory.toPath(), effectiveInclude, destinationDirectory.toPath(), assemblyFileSet, copy));
     }
     return allEntries;
   }
 
   private static Set<AssemblyFileEntry> processInclude(
-      Path sourceDirectory, String include, Path destinationDirectory, AssemblyFileSet assemblyFileSet) throws IOException {
+      Path sourceDirectory, String include, Path destinationDirectory, AssemblyFileSet assemblyFileSet, boolean copy)
+      throws IOException {
 
     final Set<AssemblyFileEntry> entries = new LinkedHashSet<>();
     for (File sourceFile : findFilesUsingGlobMatcher(sourceDirectory, include, assemblyFileSet)) {
       final File destFile = destinationDirectory.resolve(sourceDirectory.relativize(sourceFile.toPath())).toFile();
-      FileUtil.createDirectory(destFile.getParentFile());
-      entries.addAll(copy(sourceDirectory, sourceFile, destFile, assemblyFileSet));
+      if (copy) {
+        FileUtil.createDirectory(destFile.getParentFile());
+        entries.addAll(copy(sourceDirectory, sourceFile, destFile, assemblyFileSet));
+      } else {
+        entries.addAll(resolveEntries(sourceDirectory, sourceFile, destFile, assemblyFileSet));
+      }
     }
     return entries;
   }
@@ -177,6 +210,24 @@ public class AssemblyFileSetUtils {
     return Collections.emptyList();
   }
 
+  private static List<AssemblyFileEntry> resolveEntries(
+      Path sourceDirectory, File source, File target, AssemblyFileSet assemblyFileSet) {
+    final List<AssemblyFileEntry> ret = new ArrayList<>();
+    if (source.exists() && isNotExcluded(sourceDirectory, assemblyFileSet).test(source.toPath())) {
+      if (source.isDirectory()) {
+        ret.add(new AssemblyFileEntry(source, target,
+            Optional.ofNullable(assemblyFileSet.getDirectoryMode()).orElse(DIRECTORY_MODE_DEFAULT)));
+        for (File sourceChild : Optional.ofNullable(source.listFiles()).orElse(new File[0])) {
+          ret.addAll(resolveEntries(sourceDirectory, sourceChild, new File(target, sourceChild.getName()), assemblyFileSet));
+        }
+      } else {
+        ret.add(new AssemblyFileEntry(source, target,
+            Optional.ofNullable(assemblyFileSet.getFileMode()).orElse(FILE_MODE_DEFAULT)));
+      }
+    }
+    return ret;
+  }
+
   /**
    * Functional filter that will filter {@link AssemblyFileEntry#getSource()} files that match any of the excluded
    * paths provided in {@link AssemblyFileSet#getExcludes()} using {@link PathMatcher} glob syntax.
@@ -15,16 +15,15 @@ package org.eclipse.jkube.kit.common.archive;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
-import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
-import org.apache.commons.compress.utils.IOUtils;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -55,16 +54,31 @@ public class JKubeTarArchiver {
       ArchiveCompression compression,
       Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
   ) throws IOException {
-    try (FileOutputStream fileOutputStream = new FileOutputStream(outputFile);
-        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(fileOutputStream)) {
+    try (FileOutputStream fileOutputStream = new FileOutputStream(outputFile)) {
+      writeTarBall(fileOutputStream, inputDirectory, fileList, fileModeMap, compression,
+          tarCustomizer, tarArchiveEntryCustomizer);
+    }
+
+    return outputFile;
+  }
+
+  /**
+   * Writes the tar ball of the provided files to the provided stream (e.g. a network upload) instead of a file.
+   *
+   * <p> The stream is closed once the archive has been completely written.
+   */
+  public static void writeTarBall(
+      OutputStream outputStream, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
+      ArchiveCompression compression,
+      Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
+  ) throws IOException {
+    try (BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(outputStream)) {
 
       final TarArchiveOutputStream tarArchiveOutputStream;
       if (compression.equals(ArchiveCompression.gzip)) {
         tarArchiveOutputStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(bufferedOutputStream));
-      } else if (compression.equals(ArchiveCompression.bzip2)) {
-        tarArchiveOutputStream = new TarArchiveOutputStream(new BZip2CompressorOutputStream(bufferedOutputStream));
       } else {
-        tarArchiveOutputStream = new TarArchiveOutputStream(bufferedOutputStream);
+        tarArchiveOutputStream = new TarArchiveOutputStream(compression.wrapOutputStream(bufferedOutputStream));
       }
       tarArchiveOutputStream.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
       tarArchiveOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
@@ -85,13 +99,11 @@ public class JKubeTarArchiver {
         Optional.ofNullable(tarArchiveEntryCustomizer).ifPresent(tac -> tac.accept(tarEntry));
         tarArchiveOutputStream.putArchiveEntry(tarEntry);
         if (currentFile.isFile()) {
-          tarArchiveOutputStream.write(IOUtils.toByteArray(new FileInputStream(currentFile)));
+          Files.copy(currentFile.toPath(), tarArchiveOutputStream);
         }
         tarArchiveOutputStream.closeArchiveEntry();
       }
       tarArchiveOutputStream.close();
     }
-
-    return outputFile;
   }
 }
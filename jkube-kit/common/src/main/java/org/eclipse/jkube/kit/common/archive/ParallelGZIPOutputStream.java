@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * GZIP output stream that compresses the input in independent blocks in parallel (pigz-style).
+ *
+ * <p> Each block is deflated on its own using the tail of the previous block as dictionary and sync-flushed, so
+ * the concatenated output is a single, standard gzip member readable by any gzip implementation.
+ *
+ * <p> The number of blocks being compressed at the same time is bounded, so memory usage is constant regardless of
+ * the size of the compressed content.
+ *
+ * <p> Unless provided, blocks are compressed on a dedicated pool with a thread per available processor, shared by
+ * all of the streams and never shut down (its threads are daemon).
+ */
+public class ParallelGZIPOutputStream extends FilterOutputStream {
+
+  static final int BLOCK_SIZE = 128 * 1024;
+  private static final int DICTIONARY_SIZE = 32 * 1024;
+  private static final byte[] GZIP_HEADER = {
+      0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+  };
+
+  private static ExecutorService sharedExecutorService;
+
+  private final ExecutorService executorService;
+  private final int level;
+  private final int maxPendingBlocks;
+  private final Deque<Future<byte[]>> pendingBlocks;
+  private final CRC32 crc;
+  private byte[] block;
+  private int blockLength;
+  private byte[] dictionary;
+  private long uncompressedSize;
+  private boolean closed;
+
+  public ParallelGZIPOutputStream(OutputStream out) throws IOException {
+    this(out, Deflater.DEFAULT_COMPRESSION, getSharedExecutorService(), Runtime.getRuntime().availableProcessors());
+  }
+
+  public ParallelGZIPOutputStream(OutputStream out, int level, ExecutorService executorService, int parallelism) throws IOException {
+    super(out);
+    this.executorService = executorService;
+    this.level = level;
+    this.maxPendingBlocks = Math.max(1, parallelism) * 2;
+    this.pendingBlocks = new ArrayDeque<>();
+    this.crc = new CRC32();
+    this.block = new byte[BLOCK_SIZE];
+    out.write(GZIP_HEADER);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[]{(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    crc.update(b, off, len);
+    uncompressedSize += len;
+    while (len > 0) {
+      final int chunk = Math.min(len, BLOCK_SIZE - blockLength);
+      System.arraycopy(b, off, block, blockLength, chunk);
+      blockLength += chunk;
+      off += chunk;
+      len -= chunk;
+      if (blockLength == BLOCK_SIZE) {
+        submitBlock(false);
+      }
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    // Blocks are compressed independently, flushing only propagates the already compressed ones
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      submitBlock(true);
+      while (!pendingBlocks.isEmpty()) {
+        writeNextBlock();
+      }
+      writeTrailer();
+    } finally {
+      pendingBlocks.forEach(f -> f.cancel(true));
+      out.close();
+    }
+  }
+
+  private void submitBlock(boolean last) throws IOException {
+    final byte[] input = block;
+    final int inputLength = blockLength;
+    final byte[] blockDictionary = dictionary;
+    pendingBlocks.add(executorService.submit(() -> deflate(input, inputLength, blockDictionary, last)));
+    dictionary = Arrays.copyOfRange(input, Math.max(0, inputLength - DICTIONARY_SIZE), inputLength);
+    block = new byte[BLOCK_SIZE];
+    blockLength = 0;
+    while (pendingBlocks.size() >= maxPendingBlocks) {
+      writeNextBlock();
+    }
+  }
+
+  private void writeNextBlock() throws IOException {
+    try {
+      out.write(pendingBlocks.removeFirst().get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while compressing");
+    } catch (ExecutionException e) {
+      throw new IOException("Failure while compressing", e.getCause());
+    }
+  }
+
+  private void writeTrailer() throws IOException {
+    final byte[] trailer = new byte[8];
+    writeInt((int) crc.getValue(), trailer, 0);
+    writeInt((int) uncompressedSize, trailer, 4);
+    out.write(trailer);
+  }
+
+  private byte[] deflate(byte[] input, int inputLength, byte[] blockDictionary, boolean last) {
+    final Deflater deflater = new Deflater(level, true);
+    try {
+      if (blockDictionary != null && blockDictionary.length > 0) {
+        deflater.setDictionary(blockDictionary);
+      }
+      deflater.setInput(input, 0, inputLength);
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream(inputLength / 2 + 64);
+      final byte[] buffer = new byte[16 * 1024];
+      if (last) {
+        deflater.finish();
+        while (!deflater.finished()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+      } else {
+        int length;
+        do {
+          length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+          compressed.write(buffer, 0, length);
+        } while (length == buffer.length || !deflater.needsInput());
+      }
+      return compressed.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  static synchronized ExecutorService getSharedExecutorService() {
+    if (sharedExecutorService == null) {
+      final AtomicInteger threadCount = new AtomicInteger();
+      sharedExecutorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+        final Thread thread = new Thread(r, "jkube-gzip-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return sharedExecutorService;
+  }
+
+  private static void writeInt(int value, byte[] buffer, int offset) {
+    buffer[offset] = (byte) (value & 0xff);
+    buffer[offset + 1] = (byte) ((value >> 8) & 0xff);
+    buffer[offset + 2] = (byte) ((value >> 16) & 0xff);
+    buffer[offset + 3] = (byte) ((value >> 24) & 0xff);
+  }
+}
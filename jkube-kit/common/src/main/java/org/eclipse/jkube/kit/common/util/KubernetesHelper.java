@@ -526,6 +526,15 @@ public class KubernetesHelper {
     }
 
     public static void printLogsAsync(LogWatch logWatcher, final String failureMessage, final CountDownLatch terminateLatch, final KitLogger log) {
+        printLogsAsync(logWatcher, failureMessage, terminateLatch, log, "");
+    }
+
+    /**
+     * Prints the log lines with the provided prefix, so that the logs of different sources can be told apart
+     * when they're followed at the same time.
+     */
+    public static void printLogsAsync(LogWatch logWatcher, final String failureMessage, final CountDownLatch terminateLatch,
+        final KitLogger log, final String linePrefix) {
         final InputStream in = logWatcher.getOutput();
         Thread thread = new Thread() {
             @Override
@@ -539,7 +548,7 @@ public class KubernetesHelper {
                         if (terminateLatch.getCount() <= 0L) {
                             return;
                         }
-                        log.info("[[s]]%s", line);
+                        log.info("[[s]]%s%s", linePrefix, line);
                     }
                 } catch (IOException e) {
                     // Check again the latch which could be already count down to zero in between
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -31,6 +32,10 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
 import com.google.gson.JsonObject;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
@@ -51,6 +56,8 @@ public class ResourceUtil {
 
     private ResourceUtil() {}
 
+    private static final Map<ResourceFileType, ObjectMapper> OBJECT_MAPPERS = new ConcurrentHashMap<>();
+
     public static boolean jsonEquals(JsonObject first, JsonObject second) {
         final ObjectMapper mapper = new ObjectMapper();
 
@@ -146,13 +153,42 @@ public class ResourceUtil {
     }
 
     public static File save(File file, Object data, ResourceFileType type) throws IOException {
-        boolean hasExtension = FilenameUtils.indexOfExtension(file.getAbsolutePath()) != -1;
-        File output = hasExtension ? file : type.addExtensionIfMissing(file);
+        File output = resolveResourceFile(file, type);
         ensureDir(file);
         getObjectMapper(type).writeValue(output, data);
         return output;
     }
 
+    /**
+     * Returns the file {@link #save(File, Object, ResourceFileType)} writes to for the provided file and type.
+     */
+    public static File resolveResourceFile(File file, ResourceFileType type) {
+        boolean hasExtension = FilenameUtils.indexOfExtension(file.getAbsolutePath()) != -1;
+        return hasExtension ? file : type.addExtensionIfMissing(file);
+    }
+
+    /**
+     * Checks whether the provided file already contains the serialized representation of data.
+     *
+     * <p> Data is serialized into a digest (not into memory) and compared with the digest of the file contents.
+     *
+     * @param file the resolved file to compare (see {@link #resolveResourceFile(File, ResourceFileType)})
+     * @param data the object to serialize
+     * @param type the serialization format
+     * @return true if the file exists and has the same content, false otherwise
+     * @throws IOException in case the file can't be read or data can't be serialized
+     */
+    public static boolean hasSameContent(File file, Object data, ResourceFileType type) throws IOException {
+        if (file == null || !file.isFile()) {
+            return false;
+        }
+        final CountingOutputStream counter = new CountingOutputStream(ByteStreams.nullOutputStream());
+        final HashingOutputStream serialized = new HashingOutputStream(Hashing.sha256(), counter);
+        getObjectMapper(type).writeValue(serialized, data);
+        return counter.getCount() == file.length()
+            && serialized.hash().equals(com.google.common.io.Files.asByteSource(file).hash(Hashing.sha256()));
+    }
+
 
     public static String toYaml(Object resource) throws JsonProcessingException {
         return serializeAsString(resource, ResourceFileType.yaml);
@@ -162,23 +198,23 @@ public class ResourceUtil {
         return serializeAsString(resource, ResourceFileType.json);
     }
 
-    private static String serializeAsString(Object resource, ResourceFileType resourceFileType) throws JsonProcessingException {
+    public static String serializeAsString(Object resource, ResourceFileType resourceFileType) throws JsonProcessingException {
         return getObjectMapper(resourceFileType).writeValueAsString(resource);
     }
 
     private static ObjectMapper getObjectMapper(ResourceFileType resourceFileType) {
-        return resourceFileType.getObjectMapper()
+        // Configured mappers are thread-safe and expensive to create, reuse them
+        return OBJECT_MAPPERS.computeIfAbsent(resourceFileType, type -> type.getObjectMapper()
                 .enable(SerializationFeature.INDENT_OUTPUT)
                 .disable(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS)
-                .disable(SerializationFeature.WRITE_NULL_MAP_VALUES);
+                .disable(SerializationFeature.WRITE_NULL_MAP_VALUES));
     }
 
     private static void ensureDir(File file) throws IOException {
         File parentDir = file.getParentFile();
-        if (!parentDir.exists()) {
-            if (!parentDir.mkdirs()) {
-                throw new IOException("Cannot create directory " + parentDir);
-            }
+        // The directory might be created concurrently by another writer, which makes mkdirs() return false
+        if (!parentDir.mkdirs() && !parentDir.isDirectory()) {
+            throw new IOException("Cannot create directory " + parentDir);
         }
     }
 
@@ -17,13 +17,19 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.validation.constraints.NotNull;
 
@@ -39,6 +45,10 @@ public class UserConfigurationCompare {
 
     protected static final Set<String> ignoredProperties = new HashSet<>(Collections.singletonList("status"));
 
+    private static final String KEY_PROPERTY = "name";
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final Map<Class<?>, AccessorPlan> accessorPlans = new ConcurrentHashMap<>();
+
     private UserConfigurationCompare() { }
 
     /**
@@ -90,15 +100,62 @@ public class UserConfigurationCompare {
         return false;
     }
 
+    /**
+     * Checks that every item in left has a config-equal item in right.
+     *
+     * <p> Items are first matched against the item in the same position and then against the items sharing
+     * the same name (containers, env vars, ports, volumes...), the full right collection is only scanned when
+     * none of those match. For collections with the same (or named) items this is linear instead of quadratic.
+     */
     static <L, R> boolean subCollection(Collection<L> left, Collection<R> right) {
-        for (L candidate : left) {
-            if (!itemExists(candidate, right)) {
+        final List<R> candidates = new ArrayList<>(right);
+        Map<Object, List<R>> candidatesByKey = null;
+        int position = 0;
+        for (L item : left) {
+            final int current = position++;
+            if (current < candidates.size() && configEqual(item, candidates.get(current))) {
+                continue;
+            }
+            if (candidatesByKey == null) {
+                candidatesByKey = indexByKey(candidates);
+            }
+            final Object key = keyOf(item);
+            if (key != null && itemExists(item, candidatesByKey.getOrDefault(key, Collections.emptyList()))) {
+                continue;
+            }
+            if (!itemExists(item, candidates)) {
                 return false;
             }
         }
         return true;
     }
 
+    private static <R> Map<Object, List<R>> indexByKey(List<R> items) {
+        final Map<Object, List<R>> index = new HashMap<>();
+        for (R item : items) {
+            final Object key = keyOf(item);
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+            }
+        }
+        return index;
+    }
+
+    private static Object keyOf(Object item) {
+        if (item == null) {
+            return null;
+        }
+        final MethodHandle keyGetter = getAccessorPlan(item.getClass()).keyGetter;
+        if (keyGetter == null) {
+            return null;
+        }
+        try {
+            return keyGetter.invokeExact(item);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
     static Class getCommonDenominator(Class left, Class right) {
         if (left.equals(right)) {
             return left;
@@ -124,42 +181,27 @@ public class UserConfigurationCompare {
      */
     protected static boolean configEqualKubernetesDTO(@NotNull Object entity1, @NotNull Object entity2, @NotNull Class<?> clazz) {
         // let's iterate through the objects making sure we've not
-        BeanInfo beanInfo = null;
-        try {
-            beanInfo = Introspector.getBeanInfo(clazz);
-        } catch (IntrospectionException e) {
-            LOG.warn("Failed to get beanInfo for " + clazz.getName() + ". " + e, e);
+        final AccessorPlan accessorPlan = getAccessorPlan(clazz);
+        if (accessorPlan.getters == null) {
             return false;
         }
         try {
-            PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-            for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-                String name = propertyDescriptor.getName();
-                if (ignoredProperties.contains(name)) {
-                    continue;
-                }
-                Method readMethod = propertyDescriptor.getReadMethod();
-                if (readMethod != null) {
-                    Object value1 = invokeMethod(entity1, readMethod);
-                    Object value2 = invokeMethod(entity2, readMethod);
-                    if (value1 != null && value2 != null && !configEqual(value1, value2)) {
-                        return false;
-                    }
+            for (MethodHandle getter : accessorPlan.getters) {
+                Object value1 = getter.invokeExact(entity1);
+                Object value2 = getter.invokeExact(entity2);
+                if (value1 != null && value2 != null && !configEqual(value1, value2)) {
+                    return false;
                 }
             }
             return true;
-        } catch (Exception e) {
+        } catch (Throwable e) {
+            LOG.warn("Failed to compare " + clazz.getName() + ". " + e, e);
             return false;
         }
     }
 
-    protected static Object invokeMethod(@NotNull Object entity, Method readMethod) throws InvocationTargetException, IllegalAccessException {
-        try {
-            return readMethod.invoke(entity);
-        } catch (Exception e) {
-            LOG.warn("Failed to invoke method " + readMethod + " on " + entity + ". " + e, e);
-            throw e;
-        }
+    private static AccessorPlan getAccessorPlan(Class<?> clazz) {
+        return accessorPlans.computeIfAbsent(clazz, AccessorPlan::new);
     }
 
     protected static boolean configEqualObjectMeta(ObjectMeta entity1, ObjectMeta entity2) {
@@ -220,4 +262,40 @@ public class UserConfigurationCompare {
         return (coll == null) ? 0 : coll.size();
     }
 
+    /**
+     * Compiled read accessors of the (not ignored) properties of a class, computed once per class.
+     */
+    private static final class AccessorPlan {
+        // null if the class couldn't be introspected
+        private final List<MethodHandle> getters;
+        private final MethodHandle keyGetter;
+
+        private AccessorPlan(Class<?> clazz) {
+            List<MethodHandle> planGetters = new ArrayList<>();
+            MethodHandle planKeyGetter = null;
+            try {
+                BeanInfo beanInfo = Introspector.getBeanInfo(clazz);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                for (PropertyDescriptor propertyDescriptor : beanInfo.getPropertyDescriptors()) {
+                    String name = propertyDescriptor.getName();
+                    Method readMethod = propertyDescriptor.getReadMethod();
+                    if (ignoredProperties.contains(name) || readMethod == null) {
+                        continue;
+                    }
+                    MethodHandle getter = lookup.unreflect(readMethod).asType(GETTER_TYPE);
+                    planGetters.add(getter);
+                    if (KEY_PROPERTY.equals(name)) {
+                        planKeyGetter = getter;
+                    }
+                }
+            } catch (IntrospectionException | IllegalAccessException e) {
+                LOG.warn("Failed to get beanInfo for " + clazz.getName() + ". " + e, e);
+                planGetters = null;
+                planKeyGetter = null;
+            }
+            this.getters = planGetters == null ? null : Collections.unmodifiableList(planGetters);
+            this.keyGetter = planKeyGetter;
+        }
+    }
+
 }
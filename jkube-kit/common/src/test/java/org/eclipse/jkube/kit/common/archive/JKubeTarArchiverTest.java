@@ -13,23 +13,31 @@
  */
 package org.eclipse.jkube.kit.common.archive;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Random;
 import java.util.function.Consumer;
 
 import org.eclipse.jkube.kit.common.assertj.ArchiveAssertions;
 import org.eclipse.jkube.kit.common.util.FileUtil;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
 public class JKubeTarArchiverTest {
@@ -91,6 +99,25 @@ public class JKubeTarArchiverTest {
             "nested/directory/" + LONG_FILE_NAME);
   }
 
+  @Test
+  public void createTarBallOfDirectory_pgzipCompression_createsTar() throws Exception {
+    // Given
+    final File outputFile = temporaryFolder.newFile("target.tar.gz");
+    // When
+    final File result = JKubeTarArchiver.createTarBallOfDirectory(outputFile, toCompress, ArchiveCompression.pgzip);
+    // Then
+    ArchiveAssertions.assertThat(result)
+        .isSameAs(outputFile)
+        .isNotEmpty()
+        .isGZip()
+        .fileTree()
+        .containsExactlyInAnyOrder(
+            "file.txt",
+            "nested/",
+            "nested/directory/",
+            "nested/directory/" + LONG_FILE_NAME);
+  }
+
   @Test
   public void createTarBallOfDirectory_bzip2Compression_createsTar() throws Exception {
     // Given
@@ -195,4 +222,44 @@ public class JKubeTarArchiverTest {
             tuple("nested/directory/" + LONG_FILE_NAME, 19L, defaultFileMode)
         );
   }
+
+  @Test
+  public void createTarBallOfDirectory_defaultCompressionWithLargeFile_streamsFileContents() throws Exception {
+    // Given
+    final byte[] largeContent = new byte[3 * 1024 * 1024 + 7];
+    new Random(0).nextBytes(largeContent);
+    FileUtils.writeByteArrayToFile(toCompress.toPath().resolve("large.bin").toFile(), largeContent);
+    final File outputFile = temporaryFolder.newFile("target.tar");
+    // When
+    final File result = JKubeTarArchiver.createTarBallOfDirectory(outputFile, toCompress, ArchiveCompression.none);
+    // Then
+    try (TarArchiveInputStream tais = new TarArchiveInputStream(new FileInputStream(result))) {
+      TarArchiveEntry entry;
+      while ((entry = tais.getNextTarEntry()) != null && !entry.getName().equals("large.bin")) {
+        // Skip until large file entry
+      }
+      assertThat(entry).isNotNull().hasFieldOrPropertyWithValue("size", (long) largeContent.length);
+      assertThat(IOUtils.toByteArray(tais)).isEqualTo(largeContent);
+    }
+  }
+
+  @Test
+  public void writeTarBall_gzipCompression_writesCompressedTarToStream() throws Exception {
+    // Given
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    // When
+    JKubeTarArchiver.writeTarBall(outputStream, toCompress,
+        FileUtil.listFilesAndDirsRecursivelyInDirectory(toCompress), Collections.emptyMap(), ArchiveCompression.gzip,
+        null, null);
+    // Then
+    try (TarArchiveInputStream tais = new TarArchiveInputStream(
+        new GzipCompressorInputStream(new ByteArrayInputStream(outputStream.toByteArray())))) {
+      TarArchiveEntry entry;
+      while ((entry = tais.getNextTarEntry()) != null && !entry.getName().equals("file.txt")) {
+        // Skip until file entry
+      }
+      assertThat(entry).isNotNull();
+      assertThat(IOUtils.toString(tais, StandardCharsets.UTF_8)).isEqualTo("File content");
+    }
+  }
 }
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+public class ParallelGZIPOutputStreamTest {
+
+  private ExecutorService executorService;
+
+  @Before
+  public void setUp() {
+    executorService = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void write_withEmptyContent_createsValidGzip() throws IOException {
+    // When
+    final byte[] result = compress(new byte[0]);
+    // Then
+    assertThat(decompress(result)).isEmpty();
+  }
+
+  @Test
+  public void write_withSmallContent_createsValidGzip() throws IOException {
+    // Given
+    final byte[] content = "Small content to compress".getBytes();
+    // When
+    final byte[] result = compress(content);
+    // Then
+    assertThat(decompress(result)).isEqualTo(content);
+  }
+
+  @Test
+  public void write_withMultipleBlocksOfRandomContent_createsValidGzip() throws IOException {
+    // Given
+    final byte[] content = new byte[ParallelGZIPOutputStream.BLOCK_SIZE * 9 + 13];
+    new Random(0).nextBytes(content);
+    // When
+    final byte[] result = compress(content);
+    // Then
+    assertThat(decompress(result)).isEqualTo(content);
+  }
+
+  @Test
+  public void write_withMultipleBlocksOfRepetitiveContent_createsValidCompressedGzip() throws IOException {
+    // Given
+    final StringBuilder sb = new StringBuilder();
+    for (int it = 0; sb.length() < ParallelGZIPOutputStream.BLOCK_SIZE * 5; it++) {
+      sb.append("Line number ").append(it % 1000).append(" of a repetitive text file\n");
+    }
+    final byte[] content = sb.toString().getBytes();
+    // When
+    final byte[] result = compress(content);
+    // Then
+    assertThat(result.length).isLessThan(content.length / 10);
+    assertThat(decompress(result)).isEqualTo(content);
+  }
+
+  @Test
+  public void write_withDefaultConfiguration_createsValidGzipOnSharedExecutor() throws IOException {
+    // Given
+    final byte[] content = new byte[ParallelGZIPOutputStream.BLOCK_SIZE * 3 + 7];
+    new Random(0).nextBytes(content);
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    // When
+    try (ParallelGZIPOutputStream out = new ParallelGZIPOutputStream(baos)) {
+      out.write(content);
+    }
+    // Then
+    assertThat(decompress(baos.toByteArray())).isEqualTo(content);
+    assertThat(ParallelGZIPOutputStream.getSharedExecutorService())
+        .isSameAs(ParallelGZIPOutputStream.getSharedExecutorService());
+  }
+
+  @Test
+  public void write_afterClose_throwsException() throws IOException {
+    // Given
+    final ParallelGZIPOutputStream out = new ParallelGZIPOutputStream(
+        new ByteArrayOutputStream(), 3, executorService, 4);
+    out.close();
+    // When
+    final IOException result = assertThrows(IOException.class, () -> out.write(1));
+    // Then
+    assertThat(result).hasMessage("Stream closed");
+  }
+
+  private byte[] compress(byte[] content) throws IOException {
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ParallelGZIPOutputStream out = new ParallelGZIPOutputStream(baos, 3, executorService, 4)) {
+      // Write in uneven chunks to cross block boundaries
+      for (int offset = 0; offset < content.length; offset += 50_000) {
+        out.write(content, offset, Math.min(50_000, content.length - offset));
+      }
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] decompress(byte[] compressed) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return IOUtils.toByteArray(in);
+    }
+  }
+}
@@ -16,6 +16,7 @@ package org.eclipse.jkube.kit.common.util;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -26,12 +27,20 @@ import io.fabric8.openshift.api.model.Template;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.eclipse.jkube.kit.common.GenericCustomResource;
 import org.eclipse.jkube.kit.common.ResourceFileType;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
@@ -45,6 +54,9 @@ import static org.junit.Assert.assertTrue;
  */
 public class ResourceUtilTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void simple() {
         JsonParser parser = new JsonParser();
@@ -161,4 +173,68 @@ public class ResourceUtilTest {
             .hasFieldOrPropertyWithValue("kind", "SomeCustomResource")
             .hasFieldOrPropertyWithValue("metadata.name", "my-custom-resource");
     }
+
+    @Test
+    public void hasSameContent_withSavedResource_shouldReturnTrue() throws Exception {
+        // Given
+        final ConfigMap configMap = new ConfigMapBuilder().withNewMetadata().withName("cm").endMetadata()
+            .addToData("key", "value").build();
+        final File saved = ResourceUtil.save(temporaryFolder.newFolder().toPath().resolve("cm").toFile(),
+            configMap, ResourceFileType.yaml);
+        // When
+        final boolean result = ResourceUtil.hasSameContent(saved, configMap, ResourceFileType.yaml);
+        // Then
+        assertThat(result).isTrue();
+        assertThat(saved).isEqualTo(ResourceUtil.resolveResourceFile(saved.getParentFile().toPath().resolve("cm").toFile(),
+            ResourceFileType.yaml));
+    }
+
+    @Test
+    public void hasSameContent_withModifiedResource_shouldReturnFalse() throws Exception {
+        // Given
+        final ConfigMap configMap = new ConfigMapBuilder().withNewMetadata().withName("cm").endMetadata()
+            .addToData("key", "value").build();
+        final File saved = ResourceUtil.save(temporaryFolder.newFolder().toPath().resolve("cm").toFile(),
+            configMap, ResourceFileType.yaml);
+        configMap.getData().put("key", "other");
+        // When
+        final boolean result = ResourceUtil.hasSameContent(saved, configMap, ResourceFileType.yaml);
+        // Then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void hasSameContent_withNonExistentFile_shouldReturnFalse() throws Exception {
+        // When
+        final boolean result = ResourceUtil.hasSameContent(new File("i-dont-exist.yml"), new ConfigMap(), ResourceFileType.yaml);
+        // Then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void save_withConcurrentWritersToNonExistentDirectory_shouldSaveAll() throws Exception {
+        // Given
+        final File targetDir = new File(temporaryFolder.getRoot(), "non-existent");
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final List<Future<File>> results = new ArrayList<>();
+        try {
+            for (int it = 0; it < 8; it++) {
+                final String name = "cm-" + it;
+                final ConfigMap configMap = new ConfigMapBuilder().withNewMetadata().withName(name).endMetadata().build();
+                results.add(executorService.submit(() -> {
+                    start.await();
+                    return ResourceUtil.save(new File(targetDir, name), configMap, ResourceFileType.yaml);
+                }));
+            }
+            // When
+            start.countDown();
+            // Then
+            for (Future<File> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isFile();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -13,12 +13,15 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.eclipse.jkube.kit.common.Dependency;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -155,5 +158,58 @@ public class UserConfigurationCompareTest {
         //Then
         assertTrue(result);
     }
-}
 
+    @Test
+    public void testConfigEqualWhenNamedItemsInDifferentOrder() {
+        //Given
+        Object entity1 = Arrays.asList(
+            new EnvVarBuilder().withName("A").withValue("1").build(),
+            new EnvVarBuilder().withName("B").withValue("2").build(),
+            new EnvVarBuilder().withName("C").withValue("3").build());
+        Object entity2 = Arrays.asList(
+            new EnvVarBuilder().withName("C").withValue("3").build(),
+            new EnvVarBuilder().withName("A").withValue("1").build(),
+            new EnvVarBuilder().withName("B").withValue("2").build());
+        //When
+        boolean result = UserConfigurationCompare.configEqual(entity1, entity2);
+        //Then
+        assertTrue(result);
+    }
+
+    @Test
+    public void testConfigEqualWhenNamedItemsChanged() {
+        //Given
+        Object entity1 = Arrays.asList(
+            new EnvVarBuilder().withName("A").withValue("1").build(),
+            new EnvVarBuilder().withName("B").withValue("2").build());
+        Object entity2 = Arrays.asList(
+            new EnvVarBuilder().withName("B").withValue("2").build(),
+            new EnvVarBuilder().withName("A").withValue("changed").build());
+        //When
+        boolean result = UserConfigurationCompare.configEqual(entity1, entity2);
+        //Then
+        assertFalse(result);
+    }
+
+    @Test
+    public void testConfigEqualWhenKDTOIgnoresNullProperties() {
+        //Given
+        Object entity1 = Dependency.builder().groupId("org.eclipse.jkube").artifactId("jkube-kit").build();
+        Object entity2 = Dependency.builder().groupId("org.eclipse.jkube").artifactId("jkube-kit").version("1.0").build();
+        //When
+        boolean result = UserConfigurationCompare.configEqual(entity1, entity2);
+        //Then
+        assertTrue(result);
+    }
+
+    @Test
+    public void testConfigEqualWhenKDTONotEqual() {
+        //Given
+        Object entity1 = Dependency.builder().groupId("org.eclipse.jkube").artifactId("jkube-kit").build();
+        Object entity2 = Dependency.builder().groupId("org.eclipse.jkube").artifactId("other").build();
+        //When
+        boolean result = UserConfigurationCompare.configEqual(entity1, entity2);
+        //Then
+        assertFalse(result);
+    }
+}
@@ -19,11 +19,16 @@ import java.net.HttpURLConnection;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.eclipse.jkube.kit.common.GenericCustomResource;
@@ -50,7 +55,6 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
-import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionList;
 import io.fabric8.kubernetes.api.model.apps.DaemonSet;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
@@ -83,7 +87,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
-import static org.eclipse.jkube.kit.common.util.KubernetesHelper.getCrdContext;
 import static org.eclipse.jkube.kit.common.util.KubernetesHelper.getKind;
 import static org.eclipse.jkube.kit.common.util.KubernetesHelper.getName;
 import static org.eclipse.jkube.kit.common.util.KubernetesHelper.getOrCreateLabels;
@@ -96,6 +99,7 @@ import static org.eclipse.jkube.kit.config.service.kubernetes.KubernetesClientUt
 public class ApplyService {
 
     private final KubernetesClient kubernetesClient;
+    private final CustomResourceDefinitionCache customResourceDefinitionCache;
     private final KitLogger log;
 
     private boolean allowCreate = true;
@@ -113,12 +117,19 @@ public class ApplyService {
     private String fallbackNamespace;
     private boolean rollingUpgradePreserveScale = true;
     private boolean recreateMode;
+    private int applyThreads = 1;
+    private boolean serverSideApply;
     private PatchService patchService;
     // This map is to track projects created.
-    private static final Set<String> projectsCreated = new HashSet<>();
+    private static final Set<String> projectsCreated = ConcurrentHashMap.newKeySet();
 
     public ApplyService(KubernetesClient kubernetesClient, KitLogger log) {
+        this(kubernetesClient, new CustomResourceDefinitionCache(kubernetesClient), log);
+    }
+
+    public ApplyService(KubernetesClient kubernetesClient, CustomResourceDefinitionCache customResourceDefinitionCache, KitLogger log) {
         this.kubernetesClient = kubernetesClient;
+        this.customResourceDefinitionCache = customResourceDefinitionCache;
         this.patchService = new PatchService(kubernetesClient, log);
         this.log = log;
     }
@@ -224,8 +235,7 @@ public class ApplyService {
 
     public void applyGenericCustomResource(GenericCustomResource dto, String sourceName) {
         try {
-            CustomResourceDefinitionList crdList = kubernetesClient.apiextensions().v1beta1().customResourceDefinitions().list();
-            CustomResourceDefinitionContext crdContext = getCrdContext(crdList, dto);
+            CustomResourceDefinitionContext crdContext = customResourceDefinitionCache.getCrdContext(dto);
             if (crdContext == null) {
                 onApplyError(String.format("Unable to find CustomResourceDefinition for CustomResource: %s#%s",
                     dto.getApiVersion(), dto.getKind()), null);
@@ -462,6 +472,7 @@ public class ApplyService {
                     doCreateCustomResourceDefinition(entity, sourceName);
                 } else {
                     doPatchEntity(old, entity, currentNamespace, sourceName);
+                    customResourceDefinitionCache.invalidate();
                 }
             }
         } else {
@@ -477,6 +488,7 @@ public class ApplyService {
         log.info("Creating a Custom Resource Definition from " + sourceName + " name " + getName(entity));
         try {
             CustomResourceDefinition answer = kubernetesClient.apiextensions().v1beta1().customResourceDefinitions().create(entity);
+            customResourceDefinitionCache.invalidate();
             log.info("Created Custom Resource Definition result: %s", answer.getMetadata().getName());
         } catch (Exception e) {
             onApplyError("Failed to create Custom Resource Definition from " + sourceName + ". " + e + ". " + entity, e);
@@ -855,6 +867,9 @@ public class ApplyService {
             log.debug("Ignoring Service: " + currentNamespace + ":" + id);
             return;
         }
+        if (doServerSideApply(service, currentNamespace, sourceName)) {
+            return;
+        }
         Service old = kubernetesClient.services().inNamespace(currentNamespace).withName(id).get();
         if (isRunning(old)) {
             if (UserConfigurationCompare.configEqual(service, old)) {
@@ -886,6 +901,9 @@ public class ApplyService {
             log.debug("Ignoring " + kind + ": " + currentNamespace + ":" + id);
             return;
         }
+        if (doServerSideApply(resource, currentNamespace, sourceName)) {
+            return;
+        }
         T old = resources.inNamespace(currentNamespace).withName(id).get();
         if (isRunning(old)) {
             if (UserConfigurationCompare.configEqual(resource, old)) {
@@ -925,6 +943,42 @@ public class ApplyService {
         }
     }
 
+    /**
+     * Applies the resource using server-side apply if enabled.
+     *
+     * @return true if the resource was applied (or its failure handled), false if the standard (read, compare and
+     * replace) strategy should be used instead.
+     */
+    private <T extends HasMetadata> boolean doServerSideApply(T resource, String namespace, String sourceName) {
+        if (!isServerSideApply() || !isAllowCreate() || isRecreateMode()) {
+            return false;
+        }
+        String kind = getKind(resource);
+        if (!patchService.isServerSideApplySupported()) {
+            log.debug("Server-side apply not supported by the current client, falling back to standard apply");
+            return false;
+        }
+        log.info("Server-side applying " + kind + " from " + sourceName);
+        try {
+            Object answer = patchService.serverSideApply(namespace, resource);
+            logGeneratedEntity("Applied " + kind + ": ", namespace, resource, answer);
+            return true;
+        } catch (KubernetesClientException e) {
+            if (isServerSideApplyUnsupported(e)) {
+                log.debug("Server-side apply not supported for %s (%s), falling back to standard apply", kind, e.getCode());
+                return false;
+            }
+            onApplyError("Failed to apply " + kind + " from " + sourceName + ". " + e + ". " + resource, e);
+            return true;
+        }
+    }
+
+    private static boolean isServerSideApplyUnsupported(KubernetesClientException e) {
+        return e.getCode() == HttpURLConnection.HTTP_NOT_FOUND
+            || e.getCode() == HttpURLConnection.HTTP_BAD_METHOD
+            || e.getCode() == HttpURLConnection.HTTP_UNSUPPORTED_TYPE;
+    }
+
     private <T extends HasMetadata> void doPatchEntity(T oldEntity, T newEntity, String namespace, String sourceName) {
         String kind = newEntity.getKind();
         log.info("Updating %s from %s", kind, sourceName);
@@ -1371,10 +1425,40 @@ public class ApplyService {
         this.rollingUpgradePreserveScale = rollingUpgradePreserveScale;
     }
 
+    /**
+     * Number of threads used to apply the resources of a single apply tier concurrently.
+     *
+     * <p> A value of <code>1</code> (default) applies every resource sequentially.
+     */
+    public int getApplyThreads() {
+        return applyThreads;
+    }
+
+    public void setApplyThreads(int applyThreads) {
+        this.applyThreads = applyThreads;
+    }
+
+    /**
+     * If enabled then resources are created/updated using Kubernetes server-side apply (no read before write).
+     *
+     * <p> Kinds that can't be server-side applied by the cluster are applied with the standard strategy.
+     */
+    public boolean isServerSideApply() {
+        return serverSideApply;
+    }
+
+    public void setServerSideApply(boolean serverSideApply) {
+        this.serverSideApply = serverSideApply;
+    }
+
     public void applyEntities(String fileName, Collection<HasMetadata> entities, KitLogger serviceLogger,
                                  long serviceUrlWaitTimeSeconds) throws InterruptedException {
 
-        applyStandardEntities(fileName, getK8sListWithNamespaceFirst(entities));
+        if (applyThreads > 1) {
+            applyTieredEntities(fileName, getK8sListGroupedByApplyTier(entities));
+        } else {
+            applyStandardEntities(fileName, getK8sListWithNamespaceFirst(entities));
+        }
         logExposeServiceUrl(entities, serviceLogger, serviceUrlWaitTimeSeconds);
     }
 
@@ -1387,18 +1471,54 @@ public class ApplyService {
 
     private void applyStandardEntities(String fileName, List<HasMetadata> entities) {
         for (HasMetadata entity : entities) {
-            if (entity instanceof Pod) {
-                Pod pod = (Pod) entity;
-                applyPod(pod, fileName);
-            } else if (entity instanceof Service) {
-                Service service = (Service) entity;
-                applyService(service, fileName);
-            } else if (entity instanceof ReplicationController) {
-                ReplicationController replicationController = (ReplicationController) entity;
-                applyReplicationController(replicationController, fileName);
-            } else if (entity != null) {
-                apply(entity, fileName);
+            applyStandardEntity(fileName, entity);
+        }
+    }
+
+    private void applyStandardEntity(String fileName, HasMetadata entity) {
+        if (entity instanceof Pod) {
+            Pod pod = (Pod) entity;
+            applyPod(pod, fileName);
+        } else if (entity instanceof Service) {
+            Service service = (Service) entity;
+            applyService(service, fileName);
+        } else if (entity instanceof ReplicationController) {
+            ReplicationController replicationController = (ReplicationController) entity;
+            applyReplicationController(replicationController, fileName);
+        } else if (entity != null) {
+            apply(entity, fileName);
+        }
+    }
+
+    /**
+     * Applies each tier concurrently, waiting for all of the entities in a tier to be applied before moving
+     * on to the next one. Failures within a tier are aggregated and reported once the whole tier completes.
+     */
+    private void applyTieredEntities(String fileName, List<List<HasMetadata>> tiers) throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(applyThreads);
+        try {
+            for (List<HasMetadata> tier : tiers) {
+                final List<Future<?>> applied = new ArrayList<>();
+                for (HasMetadata entity : tier) {
+                    applied.add(executor.submit(() -> applyStandardEntity(fileName, entity)));
+                }
+                final List<Throwable> failures = new ArrayList<>();
+                for (Future<?> future : applied) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        failures.add(e.getCause());
+                    }
+                }
+                if (!failures.isEmpty()) {
+                    final RuntimeException exception = new RuntimeException(String.format(
+                        "Failed to apply %s of %s resources from %s", failures.size(), tier.size(), fileName));
+                    failures.forEach(exception::addSuppressed);
+                    throw exception;
+                }
             }
+        } finally {
+            executor.shutdownNow();
         }
     }
 
@@ -1413,7 +1533,53 @@ public class ApplyService {
         }).collect(Collectors.toList());
     }
 
+    /**
+     * Groups the provided entities into tiers that must be applied in order
+     * (Namespace/Project, CRD, ServiceAccount/RBAC, ConfigMap/Secret, Service, controllers, Route/Ingress).
+     *
+     * <p> Entities within the same tier have no dependencies between them and can be applied concurrently.
+     * The relative order of the provided entities is preserved within each tier.
+     */
+    public static List<List<HasMetadata>> getK8sListGroupedByApplyTier(Collection<HasMetadata> k8sList) {
+        final Map<Integer, List<HasMetadata>> tiers = new TreeMap<>();
+        for (HasMetadata entity : k8sList) {
+            if (entity != null) {
+                tiers.computeIfAbsent(getApplyTier(entity), k -> new ArrayList<>()).add(entity);
+            }
+        }
+        return new ArrayList<>(tiers.values());
+    }
+
     private static boolean isNamespaceOrProject(HasMetadata h) {
         return h instanceof Namespace || h instanceof Project;
     }
+
+    private static int getApplyTier(HasMetadata h) {
+        if (isNamespaceOrProject(h)) {
+            return 0;
+        }
+        switch (StringUtils.defaultString(getKind(h))) {
+            case "CustomResourceDefinition":
+                return 1;
+            case "ServiceAccount":
+            case "Role":
+            case "RoleBinding":
+            case "ClusterRole":
+            case "ClusterRoleBinding":
+                return 2;
+            case "ConfigMap":
+            case "Secret":
+            case "PersistentVolumeClaim":
+            case "ImageStream":
+            case "Template":
+                return 3;
+            case "Service":
+                return 4;
+            case "Route":
+            case "Ingress":
+                return 6;
+            default:
+                return 5;
+        }
+    }
 }
@@ -37,6 +37,19 @@ public interface BuildService {
      */
     void build(ImageConfiguration imageConfig) throws JKubeServiceException;
 
+    /**
+     * Builds the given images using the specified configuration.
+     *
+     * <p> Images are built one after another unless the implementation supports building them concurrently.
+     *
+     * @param imageConfigs the images to build
+     */
+    default void buildAll(Collection<ImageConfiguration> imageConfigs) throws JKubeServiceException {
+        for (ImageConfiguration imageConfig : imageConfigs) {
+            build(imageConfig);
+        }
+    }
+
     /**
      * Pushes to given image to specified Registry
      *
@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.eclipse.jkube.kit.build.service.docker.ImagePullManager;
 import org.eclipse.jkube.kit.build.service.docker.helper.Task;
+import org.eclipse.jkube.kit.common.RegistryConfig;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
 import org.eclipse.jkube.kit.config.resource.BuildRecreateMode;
 import org.eclipse.jkube.kit.config.resource.ResourceConfig;
@@ -48,9 +49,17 @@ public class BuildServiceConfig {
     private Attacher attacher;
     private ImagePullManager imagePullManager;
     private boolean s2iImageStreamLookupPolicyLocal;
+    private boolean s2iStreamBuildArchive;
+    private int s2iBuildThreads;
     private ResourceConfig resourceConfig;
     private File resourceDir;
     private String buildOutputKind;
+    private boolean jibPushOnBuild;
+    private RegistryConfig jibPushRegistryConfig;
+    private boolean jibSplitLayers;
+    private boolean jibReproducible;
+    private File jibBaseImageCacheDirectory;
+    private File jibApplicationCacheDirectory;
 
     public void attachArtifact(String classifier, File destFile) {
         if (attacher != null) {
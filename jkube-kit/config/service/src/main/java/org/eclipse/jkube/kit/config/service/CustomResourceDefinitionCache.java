@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
+import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionSpec;
+import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionVersion;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import org.eclipse.jkube.kit.common.GenericCustomResource;
+
+import static io.fabric8.kubernetes.client.utils.ApiVersionUtil.trimGroup;
+import static io.fabric8.kubernetes.client.utils.ApiVersionUtil.trimVersion;
+
+/**
+ * Cache of the CustomResourceDefinitions available in the cluster, indexed by group, version and kind.
+ *
+ * <p> The CustomResourceDefinitions are listed once (when first needed) and shared by all the custom resources
+ * processed in the same session. The cache must be invalidated whenever a CustomResourceDefinition is created,
+ * modified or deleted so that it's listed again on the next lookup.
+ */
+public class CustomResourceDefinitionCache {
+
+    private final KubernetesClient client;
+    private Map<String, CustomResourceDefinitionContext> contexts;
+
+    public CustomResourceDefinitionCache(KubernetesClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Get the context of the CustomResourceDefinition for the provided custom resource.
+     *
+     * @param customResource the custom resource
+     * @return the context or null if there's no matching CustomResourceDefinition
+     */
+    public synchronized CustomResourceDefinitionContext getCrdContext(GenericCustomResource customResource) {
+        if (contexts == null) {
+            contexts = load();
+        }
+        return contexts.get(key(trimGroup(customResource.getApiVersion()), trimVersion(customResource.getApiVersion()),
+            customResource.getKind()));
+    }
+
+    public synchronized void invalidate() {
+        contexts = null;
+    }
+
+    private Map<String, CustomResourceDefinitionContext> load() {
+        final Map<String, CustomResourceDefinitionContext> loaded = new HashMap<>();
+        for (CustomResourceDefinition crd : client.apiextensions().v1beta1().customResourceDefinitions().list().getItems()) {
+            final CustomResourceDefinitionSpec spec = crd.getSpec();
+            final CustomResourceDefinitionContext context = CustomResourceDefinitionContext.fromCrd(crd);
+            if (spec.getVersion() != null) {
+                loaded.putIfAbsent(key(spec.getGroup(), spec.getVersion(), spec.getNames().getKind()), context);
+            }
+            if (spec.getVersions() != null) {
+                for (CustomResourceDefinitionVersion version : spec.getVersions()) {
+                    loaded.putIfAbsent(key(spec.getGroup(), version.getName(), spec.getNames().getKind()), context);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static String key(String group, String version, String kind) {
+        return group + "/" + version + "#" + kind;
+    }
+}
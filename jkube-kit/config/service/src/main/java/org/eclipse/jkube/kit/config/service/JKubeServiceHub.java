@@ -60,6 +60,7 @@ public class JKubeServiceHub implements Closeable {
     private LazyBuilder<BuildServiceManager> buildServiceManager;
     private LazyBuilder<ResourceService> resourceService;
     private LazyBuilder<PortForwardService> portForwardService;
+    private LazyBuilder<CustomResourceDefinitionCache> customResourceDefinitionCache;
     private LazyBuilder<ApplyService> applyService;
     private LazyBuilder<UndeployService> undeployService;
     private LazyBuilder<MigrateService> migrateService;
@@ -115,6 +116,10 @@ public class JKubeServiceHub implements Closeable {
         return resourceService.get();
     }
 
+    public CustomResourceDefinitionCache getCustomResourceDefinitionCache() {
+        return customResourceDefinitionCache.get();
+    }
+
     public ApplyService getApplyService() {
         return applyService.get();
     }
@@ -143,9 +148,13 @@ public class JKubeServiceHub implements Closeable {
             }
             this.client = clusterAccess.createDefaultClient();
         }
+        customResourceDefinitionCache = new LazyBuilder<>(() -> {
+            validateIfConnectedToCluster();
+            return new CustomResourceDefinitionCache(client);
+        });
         applyService = new LazyBuilder<>(() -> {
             validateIfConnectedToCluster();
-            return new ApplyService(client, log);
+            return new ApplyService(client, customResourceDefinitionCache.get(), log);
         });
         portForwardService = new LazyBuilder<>(() -> {
             validateIfConnectedToCluster();
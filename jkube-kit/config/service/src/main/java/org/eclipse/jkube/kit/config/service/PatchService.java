@@ -27,8 +27,13 @@ import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionBuilder;
 import io.fabric8.kubernetes.api.model.batch.v1.Job;
 import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.api.model.Namespaced;
+import io.fabric8.kubernetes.client.HttpClientAware;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.openshift.api.model.BuildConfig;
 import io.fabric8.openshift.api.model.BuildConfigBuilder;
 import io.fabric8.openshift.api.model.ImageStream;
@@ -39,11 +44,21 @@ import io.fabric8.openshift.client.OpenShiftClient;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
 import org.eclipse.jkube.kit.common.util.UserConfigurationCompare;
-
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 public class PatchService {
+    public static final String SERVER_SIDE_APPLY_FIELD_MANAGER = "jkube";
+    private static final MediaType APPLY_PATCH_YAML = MediaType.parse("application/apply-patch+yaml");
+
     private final KubernetesClient kubernetesClient;
     private final KitLogger log;
 
@@ -95,6 +110,60 @@ public class PatchService {
         return dispatcher.patch(kubernetesClient, namespace, newDto, oldDto);
     }
 
+    /**
+     * Returns true if the current client can perform {@link #serverSideApply(String, HasMetadata)} requests.
+     */
+    public boolean isServerSideApplySupported() {
+        return kubernetesClient instanceof HttpClientAware;
+    }
+
+    /**
+     * Creates or updates the provided entity using Kubernetes server-side apply.
+     *
+     * <p> No read is performed before the write, the cluster merges the provided configuration with the live
+     * object and takes care of conflicts (fields are force-owned by the jkube field manager).
+     *
+     * @param namespace namespace where the entity lives (ignored for cluster-scoped entities)
+     * @param entity the entity to apply
+     * @return the entity as persisted in the cluster
+     * @throws KubernetesClientException if the cluster rejects the request, (the status code can be used to determine
+     * whether server-side apply is supported for the given entity)
+     * @see #isServerSideApplySupported()
+     */
+    public <T extends HasMetadata> T serverSideApply(String namespace, T entity) {
+        if (!isServerSideApplySupported()) {
+            throw new KubernetesClientException("Server-side apply is not supported by the current client");
+        }
+        final OkHttpClient httpClient = ((HttpClientAware) kubernetesClient).getHttpClient();
+        final Request request = new Request.Builder()
+            .url(serverSideApplyUrl(namespace, entity))
+            .patch(RequestBody.create(APPLY_PATCH_YAML, Serialization.asJson(entity)))
+            .build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            final ResponseBody body = response.body();
+            final String responseBody = body == null ? "" : body.string();
+            if (!response.isSuccessful()) {
+                throw new KubernetesClientException(String.format("Failure executing: PATCH at: %s. Message: %s. %s",
+                    request.url(), response.message(), responseBody), response.code(), null);
+            }
+            return (T) Serialization.unmarshal(responseBody, entity.getClass());
+        } catch (IOException e) {
+            throw new KubernetesClientException("Unable to server-side apply " + entity.getKind(), e);
+        }
+    }
+
+    private String serverSideApplyUrl(String namespace, HasMetadata entity) {
+        final String apiVersion = entity.getApiVersion() != null ?
+            entity.getApiVersion() : HasMetadata.getApiVersion(entity.getClass());
+        final StringBuilder path = new StringBuilder(apiVersion.contains("/") ? "apis/" : "api/").append(apiVersion);
+        if (entity instanceof Namespaced && namespace != null) {
+            path.append("/namespaces/").append(namespace);
+        }
+        path.append('/').append(entity.getPlural()).append('/').append(entity.getMetadata().getName());
+        return URLUtils.join(kubernetesClient.getMasterUrl().toString(), path.toString())
+            + "?fieldManager=" + SERVER_SIDE_APPLY_FIELD_MANAGER + "&force=true";
+    }
+
     private static EntityPatcher<Pod> podPatcher() {
         return (KubernetesClient client, String namespace, Pod newObj, Pod oldObj) -> {
             if (UserConfigurationCompare.configEqual(newObj, oldObj)) {
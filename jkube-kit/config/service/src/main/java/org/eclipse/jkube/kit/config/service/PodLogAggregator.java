@@ -0,0 +1,284 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import org.eclipse.jkube.kit.common.KitLogger;
+
+/**
+ * Follows the logs of several pod containers at once, printing every line tagged with its pod and container name.
+ *
+ * <p> Each log stream is read on its own thread into its own bounded queue, and a single printer drains the queues
+ * in turns of at most {@link #MAX_LINES_PER_TURN} lines. A chatty container fills up its queue and stops being read
+ * until the printer catches up, so it can't delay the lines of the rest of the containers. The number of streams
+ * followed at the same time is limited, further streams are refused with a warning.
+ *
+ * <p> When a stream is interrupted while its pod is still running, it's reopened from the second the last line was
+ * received. Lines received again for that second are skipped. That second is taken from the local clock, so a clock
+ * skew with the cluster nodes can make lines be skipped or printed twice.
+ */
+public class PodLogAggregator implements AutoCloseable {
+
+    static final int MAX_LINES_PER_TURN = 100;
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 1000L;
+    private static final long PRINTER_IDLE_MILLIS = 100L;
+
+    private final KitLogger log;
+    private final int maxStreams;
+    private final ExecutorService readers;
+    private final Map<String, LogStream> streams = new ConcurrentHashMap<>();
+    private final Object signal = new Object();
+    private final Thread printer;
+    private volatile boolean closed;
+
+    public PodLogAggregator(KitLogger log, int maxStreams) {
+        this.log = log;
+        this.maxStreams = maxStreams;
+        // One reader thread per followed stream, bounded by maxStreams
+        this.readers = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "jkube-pod-log-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        printer = new Thread(this::print, "jkube-pod-log-printer");
+        printer.setDaemon(true);
+        printer.start();
+    }
+
+    /**
+     * Starts following the log of the provided container unless it's already being followed, or the maximum number
+     * of streams is already being followed.
+     *
+     * @param podName name of the pod
+     * @param containerName name of the container
+     * @param opener opens the log stream, since the provided RFC3339 time (null for the complete log)
+     * @param running checks if the pod is still running when the log stream ends, so that it's reopened
+     * @return true if the container log is now being followed
+     */
+    public synchronized boolean follow(String podName, String containerName, LogWatchOpener opener, BooleanSupplier running) {
+        if (closed) {
+            return false;
+        }
+        final LogStream stream = new LogStream(podName, containerName, opener, running);
+        final LogStream existing = streams.get(stream.key);
+        if (existing != null && !existing.stopped) {
+            return false;
+        }
+        if (streams.values().stream().filter(s -> !s.stopped).count() >= maxStreams) {
+            log.warn("Not following the log of %s, the maximum of %d logs are already being followed",
+                stream.key, maxStreams);
+            return false;
+        }
+        streams.put(stream.key, stream);
+        try {
+            readers.submit(stream::read);
+        } catch (RejectedExecutionException e) {
+            // Closed in between
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops following the logs of every container of the provided pod, the lines already read are still printed.
+     *
+     * @param podName name of the pod
+     */
+    public void stop(String podName) {
+        streams.values().stream()
+            .filter(stream -> stream.podName.equals(podName))
+            .forEach(LogStream::stop);
+    }
+
+    /**
+     * Stops following all of the logs, printing the lines already read.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        streams.values().forEach(LogStream::stop);
+        readers.shutdownNow();
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+        try {
+            printer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void print() {
+        final List<String> batch = new ArrayList<>(MAX_LINES_PER_TURN);
+        while (true) {
+            // Read the flag before draining so that lines read before closing are still printed
+            final boolean done = closed;
+            int printed = 0;
+            for (LogStream stream : streams.values()) {
+                stream.lines.drainTo(batch, MAX_LINES_PER_TURN);
+                for (String line : batch) {
+                    log.info("[[s]]%s%s", stream.prefix, line);
+                }
+                printed += batch.size();
+                batch.clear();
+                if (stream.stopped && stream.lines.isEmpty()) {
+                    streams.remove(stream.key, stream);
+                }
+            }
+            if (printed == 0) {
+                if (done) {
+                    return;
+                }
+                synchronized (signal) {
+                    try {
+                        signal.wait(PRINTER_IDLE_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface LogWatchOpener {
+        LogWatch open(String sinceTime);
+    }
+
+    private final class LogStream {
+
+        private final String key;
+        private final String podName;
+        private final String prefix;
+        private final LogWatchOpener opener;
+        private final BooleanSupplier running;
+        private final BlockingQueue<String> lines = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final Set<String> lastSecondLines = new HashSet<>();
+        private Instant lastSecond;
+        private volatile boolean stopped;
+        private volatile LogWatch logWatch;
+
+        private LogStream(String podName, String containerName, LogWatchOpener opener, BooleanSupplier running) {
+            this.key = podName + "/" + containerName;
+            this.podName = podName;
+            this.prefix = "[" + key + "] ";
+            this.opener = opener;
+            this.running = running;
+        }
+
+        private void read() {
+            try {
+                readUntilStopped();
+            } finally {
+                // Releases the stream's slot whatever the reason it ended for
+                stopped = true;
+            }
+        }
+
+        private void readUntilStopped() {
+            String sinceTime = null;
+            while (!stopped) {
+                final Set<String> resumedLines = new HashSet<>(lastSecondLines);
+                try (LogWatch watch = opener.open(sinceTime)) {
+                    logWatch = watch;
+                    final BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(watch.getOutput(), StandardCharsets.UTF_8));
+                    String line;
+                    while (!stopped && (line = reader.readLine()) != null) {
+                        if (resumedLines.remove(line)) {
+                            continue;
+                        }
+                        resumedLines.clear();
+                        receive(line);
+                    }
+                } catch (IOException | KubernetesClientException e) {
+                    if (!stopped) {
+                        log.warn("Failed to read log of %s: %s", key, e.getMessage());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (stopped || !isRunning()) {
+                    return;
+                }
+                sinceTime = lastSecond == null ? null : lastSecond.toString();
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                log.verbose("Reopening log of %s since %s", key, sinceTime);
+            }
+        }
+
+        // A failed check is considered transient, the stream is reopened after the delay and checked again
+        private boolean isRunning() {
+            try {
+                return running.getAsBoolean();
+            } catch (KubernetesClientException e) {
+                log.warn("Failed to check whether %s is still running: %s", podName, e.getMessage());
+                return true;
+            }
+        }
+
+        private void receive(String line) throws InterruptedException {
+            final Instant second = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            if (!second.equals(lastSecond)) {
+                lastSecond = second;
+                lastSecondLines.clear();
+            }
+            lastSecondLines.add(line);
+            final boolean wasEmpty = lines.isEmpty();
+            // Blocks while the queue is full, so the stream stops being read until the printer catches up
+            lines.put(line);
+            if (wasEmpty) {
+                synchronized (signal) {
+                    signal.notifyAll();
+                }
+            }
+        }
+
+        private void stop() {
+            stopped = true;
+            final LogWatch current = logWatch;
+            if (current != null) {
+                current.close();
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
@@ -67,6 +68,7 @@ public class PodLogService {
     private CountDownLatch terminateLatch = new CountDownLatch(1);
     private String watchingPodName;
     private CountDownLatch logWatchTerminateLatch;
+    private PodLogAggregator podLogAggregator;
 
     public PodLogService(PodLogServiceContext context) {
         this.context = context;
@@ -108,6 +110,9 @@ public class PodLogService {
                             podWatcher.close();
                         }
                         closeLogWatcher();
+                        if (podLogAggregator != null) {
+                            podLogAggregator.close();
+                        }
                     }
                 });
             }
@@ -126,6 +131,10 @@ public class PodLogService {
         } else {
             log.info("Watching pods with selector %s waiting for a running pod...", selector);
         }
+        if (context.isAggregate() && followLog) {
+            podLogAggregator = new PodLogAggregator(log, context.getAggregateThreads());
+        }
+        final List<Pod> matchingPods = new ArrayList<>();
         Pod latestPod = null;
         boolean runningPod = false;
         PodList list = pods.list();
@@ -134,6 +143,9 @@ public class PodLogService {
             if (items != null) {
                 for (Pod pod : items) {
                     if (KubernetesHelper.isPodRunning(pod) || KubernetesHelper.isPodWaiting(pod)) {
+                        if (isNotOlderThan(pod, ignorePodsOlderThan)) {
+                            matchingPods.add(pod);
+                        }
                         if (latestPod == null || KubernetesHelper.isNewerResource(pod, latestPod)) {
                             if (ignorePodsOlderThan != null) {
                                 Date podCreateTime = KubernetesHelper.getCreationTimestamp(pod);
@@ -149,8 +161,10 @@ public class PodLogService {
                 }
             }
         }
-        // we may have missed the ADDED event so lets simulate one
-        if (latestPod != null) {
+        // we may have missed the ADDED events so lets simulate them
+        if (context.isAggregate()) {
+            matchingPods.forEach(pod -> onPod(Watcher.Action.ADDED, pod, kubernetes, namespace, ctrlCMessage, followLog));
+        } else if (latestPod != null) {
             onPod(Watcher.Action.ADDED, latestPod, kubernetes, namespace, ctrlCMessage, followLog);
         }
         if (!watchAddedPodsOnly && !runningPod) {
@@ -180,7 +194,19 @@ public class PodLogService {
         }
     }
 
+    private static boolean isNotOlderThan(Pod pod, Date ignorePodsOlderThan) {
+        if (ignorePodsOlderThan == null) {
+            return true;
+        }
+        Date podCreateTime = KubernetesHelper.getCreationTimestamp(pod);
+        return podCreateTime != null && podCreateTime.compareTo(ignorePodsOlderThan) > 0;
+    }
+
     private void onPod(Watcher.Action action, Pod pod, KubernetesClient kubernetes, String namespace, String ctrlCMessage, boolean followLog) {
+        if (context.isAggregate()) {
+            onAggregatedPod(action, pod, kubernetes, namespace, ctrlCMessage, followLog);
+            return;
+        }
         String name = KubernetesHelper.getName(pod);
         if (action.equals(Watcher.Action.DELETED)) {
             addedPods.remove(name);
@@ -247,6 +273,69 @@ public class PodLogService {
         }
     }
 
+    /**
+     * Follows (or prints) the logs of every matching pod and container instead of only those of the newest pod.
+     */
+    private void onAggregatedPod(Watcher.Action action, Pod pod, KubernetesClient kubernetes, String namespace, String ctrlCMessage, boolean followLog) {
+        String name = KubernetesHelper.getName(pod);
+        if (action.equals(Watcher.Action.DELETED)) {
+            addedPods.remove(name);
+            if (podLogAggregator != null) {
+                podLogAggregator.stop(name);
+            }
+            context.getOldPodLog().info("%s status: %s%s", name, getPodStatusDescription(pod), getPodStatusMessagePostfix(action));
+            return;
+        }
+        final boolean newPod = addedPods.put(name, pod) == null;
+        if (newPod || !action.equals(Watcher.Action.MODIFIED)) {
+            context.getNewPodLog().info("%s status: %s%s", name, getPodStatusDescription(pod), getPodStatusMessagePostfix(action));
+        }
+        if (!KubernetesHelper.isPodRunning(pod)) {
+            return;
+        }
+        PodResource<Pod> podResource = kubernetes.pods().inNamespace(namespace).withName(name);
+        for (String containerName : getAggregatedLogContainerNames(KubernetesHelper.getContainers(pod))) {
+            if (followLog) {
+                final boolean followed = podLogAggregator.follow(name, containerName,
+                    sinceTime -> sinceTime == null ? podResource.inContainer(containerName).watchLog() :
+                        podResource.inContainer(containerName).sinceTime(sinceTime).watchLog(),
+                    () -> KubernetesHelper.isPodRunning(podResource.get()));
+                if (followed) {
+                    context.getNewPodLog().info("Tailing log of pod: " + name + containerNameMessage(containerName));
+                    if (watchingPodName == null) {
+                        // Only shown once, for the first followed pod
+                        watchingPodName = name;
+                        context.getNewPodLog().info("Press Ctrl-C to " + ctrlCMessage);
+                    }
+                }
+            } else {
+                String logText = podResource.inContainer(containerName).getLog();
+                if (logText != null) {
+                    for (String line : logText.split("\n")) {
+                        log.info("[[s]][%s/%s] %s", name, containerName, line);
+                    }
+                }
+            }
+        }
+        if (!followLog) {
+            terminateLatch.countDown();
+        }
+    }
+
+    private List<String> getAggregatedLogContainerNames(List<Container> containers) {
+        final List<String> containerNames = new ArrayList<>();
+        for (Container container : containers) {
+            if (StringUtils.isBlank(context.getLogContainerName()) || Objects.equals(context.getLogContainerName(), container.getName())) {
+                containerNames.add(container.getName());
+            }
+        }
+        if (containerNames.isEmpty() && !containers.isEmpty()) {
+            log.error("log container name %s does not exist in pod!! Did you set the correct value for property 'jkube.log.container'", context.getLogContainerName());
+            containerNames.add(containers.get(0).getName());
+        }
+        return containerNames;
+    }
+
     private String getLogContainerName(List<Container> containers) {
         if (StringUtils.isNotBlank(context.getLogContainerName())) {
             for (Container container : containers) {
@@ -294,17 +383,24 @@ public class PodLogService {
     public static class PodLogServiceContext {
 
         private static final String DEFAULT_S2I_BUILD_NAME_SUFFIX = "-s2i";
+        private static final int DEFAULT_AGGREGATE_THREADS = 10;
         private KitLogger log;
         private KitLogger newPodLog;
         private KitLogger oldPodLog;
         private String logContainerName;
         private String podName;
         private String s2iBuildNameSuffix;
+        private boolean aggregate;
+        private int aggregateThreads;
 
         public String getS2iBuildNameSuffix() {
             return Optional.ofNullable(s2iBuildNameSuffix).orElse(DEFAULT_S2I_BUILD_NAME_SUFFIX);
         }
 
+        public int getAggregateThreads() {
+            return aggregateThreads > 0 ? aggregateThreads : DEFAULT_AGGREGATE_THREADS;
+        }
+
     }
 
 }
@@ -21,4 +21,23 @@ import java.io.IOException;
 public interface UndeployService {
 
   void undeploy(String fallbackNamespace, File resourceDir, ResourceConfig resourceConfig, File... manifestFiles) throws IOException;
+
+  /**
+   * Undeploys the resources using up to the provided number of threads to delete the resources of a single tier
+   * concurrently.
+   *
+   * <p> A value of <code>1</code> deletes every resource sequentially, which is what implementations that don't
+   * support concurrent deletion do.
+   *
+   * @param undeployThreads number of threads
+   * @param fallbackNamespace namespace for resources without one, if there's no configured namespace
+   * @param resourceDir directory with the resource fragments
+   * @param resourceConfig resource configuration
+   * @param manifestFiles manifests with the resources to undeploy
+   * @throws IOException in case of an error loading the manifests
+   */
+  default void undeploy(int undeployThreads, String fallbackNamespace, File resourceDir, ResourceConfig resourceConfig,
+      File... manifestFiles) throws IOException {
+    undeploy(fallbackNamespace, resourceDir, resourceConfig, manifestFiles);
+  }
 }
@@ -26,6 +26,7 @@ import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
 import org.eclipse.jkube.kit.common.util.EnvUtil;
+import org.eclipse.jkube.kit.common.util.FileUtil;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.ImageName;
 import org.eclipse.jkube.kit.common.RegistryConfig;
@@ -35,6 +36,7 @@ import org.eclipse.jkube.kit.config.service.BuildService;
 import org.eclipse.jkube.kit.config.service.BuildServiceConfig;
 import org.eclipse.jkube.kit.config.service.JKubeServiceException;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
+import org.eclipse.jkube.kit.service.jib.JibContainerizerConfiguration;
 import org.eclipse.jkube.kit.service.jib.JibServiceUtil;
 
 import java.io.File;
@@ -44,6 +46,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.eclipse.jkube.kit.service.jib.JibServiceUtil.containerFromImageConfiguration;
 import static org.eclipse.jkube.kit.service.jib.JibServiceUtil.getBaseImage;
@@ -80,25 +83,34 @@ public class JibBuildService implements BuildService {
             if (imageConfig.getBuildConfiguration().isDockerFileMode()) {
                 throw new JKubeServiceException("Dockerfile mode is not supported with JIB build strategy");
             }
-            prependRegistry(imageConfig, configuration.getProperties().getProperty(PUSH_REGISTRY));
+            if (buildServiceConfig.isJibPushOnBuild()) {
+                prependRegistry(imageConfig, getPushOnBuildRegistryConfig().getRegistry());
+            } else {
+                prependRegistry(imageConfig, configuration.getProperties().getProperty(PUSH_REGISTRY));
+            }
             BuildDirs buildDirs = new BuildDirs(imageConfig.getName(), configuration);
             final Credential pullRegistryCredential = getRegistryCredentials(
                 configuration.getRegistryConfig(), false, imageConfig, log);
             final JibContainerBuilder containerBuilder = containerFromImageConfiguration(imageConfig, pullRegistryCredential);
 
             final Map<Assembly, List<AssemblyFileEntry>> layers = AssemblyManager.getInstance()
-                .copyFilesToFinalTarballDirectory(configuration, buildDirs,
+                .getAssemblyFileEntries(configuration, buildDirs,
                     AssemblyManager.getAssemblyConfiguration(imageConfig.getBuildConfiguration(), configuration));
-            JibServiceUtil.layers(buildDirs, layers).forEach(containerBuilder::addFileEntriesLayer);
-
-            // TODO: Improve Assembly Manager so that the effective assemblyFileEntries computed can be properly shared
-            // the call to AssemblyManager.getInstance().createDockerTarArchive should not be necessary,
-            // files should be added using the AssemblyFileEntry list. AssemblyManager, should provide
-            // a common way to achieve this so that both the tar builder and any other builder could get a hold of
-            // archive customizers, file entries, etc.
-            File dockerTarArchive = getAssemblyTarArchive(imageConfig, configuration, log);
+            JibServiceUtil.layers(buildDirs, layers, buildServiceConfig.isJibSplitLayers())
+                .forEach(containerBuilder::addFileEntriesLayer);
+
+            if (buildServiceConfig.isJibPushOnBuild()) {
+                final Credential pushRegistryCredential = getRegistryCredentials(
+                    getPushOnBuildRegistryConfig(), true, imageConfig, log);
+                JibServiceUtil.buildAndPushContainer(
+                    containerBuilder, imageConfig, pushRegistryCredential, getContainerizerConfiguration(), log);
+                log.info(" %s successfully built and pushed", imageConfig.getName());
+                return;
+            }
+            final File dockerTarArchive = getBuildTarArchive(imageConfig, configuration);
+            FileUtil.createDirectory(dockerTarArchive.getParentFile());
             JibServiceUtil.buildContainer(containerBuilder,
-                    TarImage.at(dockerTarArchive.toPath()).named(imageConfig.getName()), log);
+                    TarImage.at(dockerTarArchive.toPath()).named(imageConfig.getName()), getContainerizerConfiguration(), log);
             log.info(" %s successfully built", dockerTarArchive.getAbsolutePath());
         } catch (InterruptedException ex) {
 			Thread.currentThread().interrupt();
@@ -109,6 +121,10 @@ public class JibBuildService implements BuildService {
 
     @Override
     public void push(Collection<ImageConfiguration> imageConfigs, int retries, RegistryConfig registryConfig, boolean skipTag) throws JKubeServiceException {
+        if (buildServiceConfig.isJibPushOnBuild()) {
+            log.info("Images were already pushed during the JIB build, skipping push");
+            return;
+        }
         try {
             for (ImageConfiguration imageConfiguration : imageConfigs) {
                 prependRegistry(imageConfiguration, registryConfig.getRegistry());
@@ -117,6 +133,7 @@ public class JibBuildService implements BuildService {
                     imageConfiguration,
                     getRegistryCredentials(registryConfig, true, imageConfiguration, log),
                     getBuildTarArchive(imageConfiguration, configuration),
+                    getContainerizerConfiguration(),
                     log
                 );
             }
@@ -130,6 +147,21 @@ public class JibBuildService implements BuildService {
         // No post processing required
     }
 
+    // Images pushed during the build are resolved against the same registry as they would be by push()
+    private RegistryConfig getPushOnBuildRegistryConfig() {
+        return Optional.ofNullable(buildServiceConfig.getJibPushRegistryConfig())
+            .orElse(configuration.getRegistryConfig());
+    }
+
+    private JibContainerizerConfiguration getContainerizerConfiguration() {
+        return JibContainerizerConfiguration.builder()
+            .baseImageLayersCacheDirectory(buildServiceConfig.getJibBaseImageCacheDirectory())
+            .applicationLayersCacheDirectory(buildServiceConfig.getJibApplicationCacheDirectory())
+            .executorService(JibServiceUtil.getSharedExecutorService())
+            .reproducible(buildServiceConfig.isJibReproducible())
+            .build();
+    }
+
     static ImageConfiguration prependRegistry(ImageConfiguration imageConfiguration, String registry) {
         ImageName imageName = new ImageName(imageConfiguration.getName());
         if (!imageName.hasRegistry() && registry != null) {
@@ -139,13 +171,6 @@ public class JibBuildService implements BuildService {
         return imageConfiguration;
     }
 
-    static File getAssemblyTarArchive(ImageConfiguration imageConfig, JKubeConfiguration configuration, KitLogger log) throws IOException {
-        log.info("Preparing assembly files");
-        final String targetImage = imageConfig.getName();
-        return AssemblyManager.getInstance()
-                .createDockerTarArchive(targetImage, configuration, imageConfig.getBuildConfiguration(), log, null);
-    }
-
     static Credential getRegistryCredentials(
         RegistryConfig registryConfig, boolean isPush, ImageConfiguration imageConfiguration, KitLogger log)
         throws IOException {
@@ -19,6 +19,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -33,11 +37,11 @@ import org.eclipse.jkube.kit.config.service.UndeployService;
 
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionList;
+import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 
-import static org.eclipse.jkube.kit.common.util.KubernetesHelper.getCrdContext;
 import static org.eclipse.jkube.kit.common.util.KubernetesHelper.loadResources;
+import static org.eclipse.jkube.kit.config.service.ApplyService.getK8sListGroupedByApplyTier;
 import static org.eclipse.jkube.kit.config.service.ApplyService.getK8sListWithNamespaceFirst;
 import static org.eclipse.jkube.kit.config.service.kubernetes.KubernetesClientUtil.applicableNamespace;
 
@@ -54,6 +58,12 @@ public class KubernetesUndeployService implements UndeployService {
 
   @Override
   public void undeploy(String fallbackNamespace, File resourceDir, ResourceConfig resourceConfig, File... manifestFiles) throws IOException {
+    undeploy(1, fallbackNamespace, resourceDir, resourceConfig, manifestFiles);
+  }
+
+  @Override
+  public void undeploy(int undeployThreads, String fallbackNamespace, File resourceDir, ResourceConfig resourceConfig,
+      File... manifestFiles) throws IOException {
     final List<File> manifests = Stream.of(manifestFiles)
         .filter(Objects::nonNull).filter(File::exists).filter(File::isFile)
         .collect(Collectors.toList());
@@ -67,18 +77,69 @@ public class KubernetesUndeployService implements UndeployService {
     }
     List<HasMetadata> undeployEntities = getK8sListWithNamespaceFirst(entities);
     Collections.reverse(undeployEntities);
-    undeployCustomResources(resourceConfig.getNamespace(), fallbackNamespace, undeployEntities);
-    undeployResources(resourceConfig.getNamespace(), fallbackNamespace, undeployEntities);
+    undeployCustomResources(undeployThreads, resourceConfig.getNamespace(), fallbackNamespace, undeployEntities);
+    undeployResources(undeployThreads, resourceConfig.getNamespace(), fallbackNamespace, undeployEntities);
   }
 
-  private void undeployCustomResources(String currentNamespace, String fallbackNamespace, List<HasMetadata> entities) {
+  private void undeployCustomResources(
+      int undeployThreads, String currentNamespace, String fallbackNamespace, List<HasMetadata> entities) {
     final Consumer<HasMetadata> customResourceDeleter = customResourceDeleter(currentNamespace, fallbackNamespace);
-    entities.stream().filter(isCustomResource).forEach(customResourceDeleter);
+    final List<HasMetadata> customResources = entities.stream().filter(isCustomResource).collect(Collectors.toList());
+    deleteTiers(undeployThreads, Collections.singletonList(customResources), customResourceDeleter);
   }
 
-  private void undeployResources(String namespace, String fallbackNamespace, List<HasMetadata> entities) {
+  private void undeployResources(
+      int undeployThreads, String namespace, String fallbackNamespace, List<HasMetadata> entities) {
     final Consumer<HasMetadata> resourceDeleter = resourceDeleter(namespace, fallbackNamespace);
-    entities.stream().filter(isCustomResource.negate()).forEach(resourceDeleter);
+    final List<HasMetadata> resources = entities.stream().filter(isCustomResource.negate()).collect(Collectors.toList());
+    if (undeployThreads > 1) {
+      // Apply tiers in reverse order: dependent resources first, Namespaces/Projects last
+      final List<List<HasMetadata>> tiers = getK8sListGroupedByApplyTier(resources);
+      Collections.reverse(tiers);
+      deleteTiers(undeployThreads, tiers, resourceDeleter);
+    } else {
+      resources.forEach(resourceDeleter);
+    }
+  }
+
+  /**
+   * Deletes each tier concurrently (if more than one thread is configured), waiting for all of the entities in a
+   * tier to be deleted before moving on to the next one. Failures within a tier are aggregated and reported once
+   * the whole tier completes.
+   */
+  private static void deleteTiers(int undeployThreads, List<List<HasMetadata>> tiers, Consumer<HasMetadata> deleter) {
+    if (undeployThreads <= 1) {
+      tiers.forEach(tier -> tier.forEach(deleter));
+      return;
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(undeployThreads);
+    try {
+      for (List<HasMetadata> tier : tiers) {
+        final List<Future<?>> deleted = new ArrayList<>();
+        for (HasMetadata entity : tier) {
+          deleted.add(executor.submit(() -> deleter.accept(entity)));
+        }
+        final List<Throwable> failures = new ArrayList<>();
+        for (Future<?> future : deleted) {
+          try {
+            future.get();
+          } catch (ExecutionException e) {
+            failures.add(e.getCause());
+          }
+        }
+        if (!failures.isEmpty()) {
+          final RuntimeException exception = new RuntimeException(String.format(
+              "Failed to undeploy %s of %s resources", failures.size(), tier.size()));
+          failures.forEach(exception::addSuppressed);
+          throw exception;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Undeploy was interrupted", e);
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
   protected Consumer<HasMetadata> resourceDeleter(String namespace, String fallbackNamespace) {
@@ -89,6 +150,9 @@ public class KubernetesUndeployService implements UndeployService {
           .inNamespace(undeployNamespace)
           .withPropagationPolicy(DeletionPropagation.BACKGROUND)
           .delete();
+      if (resource instanceof CustomResourceDefinition) {
+        jKubeServiceHub.getCustomResourceDefinitionCache().invalidate();
+      }
     };
   }
 
@@ -96,30 +160,25 @@ public class KubernetesUndeployService implements UndeployService {
     return customResource -> {
       String undeployNamespace = applicableNamespace(customResource, namespace, fallbackNamespace);
       GenericCustomResource genericCustomResource = (GenericCustomResource) customResource;
-      CustomResourceDefinitionList crdList = jKubeServiceHub.getClient().apiextensions().v1beta1().customResourceDefinitions().list();
-      deleteCustomResourceIfCustomResourceDefinitionContextPresent(genericCustomResource, undeployNamespace, getCrdContext(crdList, genericCustomResource));
+      deleteCustomResourceIfCustomResourceDefinitionContextPresent(genericCustomResource, undeployNamespace,
+          jKubeServiceHub.getCustomResourceDefinitionCache().getCrdContext(genericCustomResource));
     };
   }
 
   private void deleteCustomResourceIfCustomResourceDefinitionContextPresent(GenericCustomResource customResource, String namespace, CustomResourceDefinitionContext crdContext) {
     if (crdContext != null) {
-        deleteCustomResourceIfPresent(customResource, namespace, crdContext);
-    }
-  }
-
-  private void deleteCustomResourceIfPresent(GenericCustomResource customResource, String namespace, CustomResourceDefinitionContext crdContext) {
-    final GenericCustomResource cr = KubernetesClientUtil.doGetCustomResource(jKubeServiceHub.getClient(), crdContext, namespace, customResource.getMetadata().getName());
-    if (cr != null) {
-      deleteCustomResource(customResource, namespace, crdContext);
+        deleteCustomResource(customResource, namespace, crdContext);
     }
   }
 
+  // No GET before the DELETE, a missing Custom Resource is reported by the DELETE itself
   private void deleteCustomResource(GenericCustomResource customResource, String namespace, CustomResourceDefinitionContext crdContext) {
     String name = customResource.getMetadata().getName();
     String apiVersionAndKind = KubernetesHelper.getFullyQualifiedApiGroupWithKind(crdContext);
     try {
-      logger.info("Deleting Custom Resource %s %s", apiVersionAndKind, name);
-      jKubeServiceHub.getClient().customResource(crdContext).inNamespace(namespace).withName(name).delete();
+      if (Boolean.TRUE.equals(jKubeServiceHub.getClient().customResource(crdContext).inNamespace(namespace).withName(name).delete())) {
+        logger.info("Deleted Custom Resource %s %s", apiVersionAndKind, name);
+      }
     } catch (Exception exception) {
       logger.error("Unable to undeploy %s %s/%s", apiVersionAndKind, namespace, name);
     }
@@ -36,6 +36,7 @@ import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.util.Collections;
 import java.util.List;
@@ -64,6 +65,23 @@ public class OpenShiftBuildServiceUtils {
     }
   }
 
+  /**
+   * Writes the build archive to the provided stream instead of creating it in the build directory.
+   *
+   * <p> The stream is closed once the archive has been completely written.
+   */
+  static void writeBuildArchive(JKubeServiceHub jKubeServiceHub, ImageConfiguration imageConfig, OutputStream outputStream)
+      throws JKubeServiceException {
+
+    final ArchiverCustomizer customizer = createS2IArchiveCustomizer(jKubeServiceHub.getBuildServiceConfig(), imageConfig);
+    try {
+      jKubeServiceHub.getDockerServiceHub().getArchiveService()
+          .writeDockerBuildArchive(imageConfig, jKubeServiceHub.getConfiguration(), customizer, outputStream);
+    } catch (IOException e) {
+      throw new JKubeServiceException("Unable to write the build archive", e);
+    }
+  }
+
   /**
    * Returns the applicable name for the S2I Build resource considering the provided {@link ImageName} and
    * {@link BuildServiceConfig}.
@@ -14,17 +14,31 @@
 package org.eclipse.jkube.kit.config.service.openshift;
 
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
@@ -72,7 +86,9 @@ import io.fabric8.openshift.api.model.BuildSource;
 import io.fabric8.openshift.api.model.BuildStrategy;
 import io.fabric8.openshift.api.model.ImageStreamBuilder;
 import io.fabric8.openshift.client.OpenShiftClient;
+import io.fabric8.openshift.client.dsl.InputStreamable;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 
 import static org.eclipse.jkube.kit.build.api.helper.BuildUtil.extractBaseFromConfiguration;
 import static org.eclipse.jkube.kit.build.api.helper.BuildUtil.extractBaseFromDockerfile;
@@ -83,6 +99,7 @@ import static org.eclipse.jkube.kit.config.service.openshift.OpenShiftBuildServi
 import static org.eclipse.jkube.kit.config.service.openshift.OpenShiftBuildServiceUtils.createBuildArchive;
 import static org.eclipse.jkube.kit.config.service.openshift.OpenShiftBuildServiceUtils.createBuildOutput;
 import static org.eclipse.jkube.kit.config.service.openshift.OpenShiftBuildServiceUtils.createBuildStrategy;
+import static org.eclipse.jkube.kit.config.service.openshift.OpenShiftBuildServiceUtils.writeBuildArchive;
 
 /**
  * @author nicola
@@ -96,11 +113,13 @@ public class OpenshiftBuildService implements BuildService {
     protected static final String DEFAULT_BUILD_OUTPUT_KIND = IMAGE_STREAM_TAG;
     public static final String REQUESTS = "requests";
     public static final String LIMITS = "limits";
+    private static final int STREAM_BUILD_ARCHIVE_BUFFER_SIZE = 64 * 1024;
 
     private final JKubeServiceHub jKubeServiceHub;
     private final KitLogger log;
     private final BuildServiceConfig buildServiceConfig;
     private final JKubeConfiguration jKubeConfiguration;
+    private final Object resourceObjectsLock = new Object();
     private OpenShiftClient client;
 
     public OpenshiftBuildService(JKubeServiceHub jKubeServiceHub) {
@@ -125,39 +144,16 @@ public class OpenshiftBuildService implements BuildService {
         initClient();
         String buildName = null;
         try {
-            final ImageConfiguration.ImageConfigurationBuilder applicableImageConfigBuilder = imageConfig.toBuilder();
-            if (imageConfig.getBuildConfiguration() != null && imageConfig.getBuildConfiguration().getAssembly() != null) {
-                applicableImageConfigBuilder.build(imageConfig.getBuild().toBuilder().assembly(
-                    imageConfig.getBuildConfiguration().getAssembly().getFlattenedClone(jKubeServiceHub.getConfiguration()))
-                    .build());
-            }
-            final ImageConfiguration applicableImageConfig = applicableImageConfigBuilder.build();
-            ImageName imageName = new ImageName(applicableImageConfig.getName());
-
-            File dockerTar = createBuildArchive(jKubeServiceHub, applicableImageConfig);
+            final ImageConfiguration applicableImageConfig = getApplicableImageConfiguration(imageConfig);
+            buildName = computeS2IBuildName(buildServiceConfig, new ImageName(applicableImageConfig.getName()));
 
-            KubernetesListBuilder builder = new KubernetesListBuilder();
+            // Start the actual build
+            Build build = submitBuild(applicableImageConfig);
 
-            // Check for buildconfig / imagestream / pullSecret and create them if necessary
-            String openshiftPullSecret = buildServiceConfig.getOpenshiftPullSecret();
-            final boolean usePullSecret = checkOrCreatePullSecret(client, builder, openshiftPullSecret, applicableImageConfig);
-            if (usePullSecret) {
-                buildName = updateOrCreateBuildConfig(buildServiceConfig, client, builder, applicableImageConfig, openshiftPullSecret);
-            } else {
-                buildName = updateOrCreateBuildConfig(buildServiceConfig, client, builder, applicableImageConfig, null);
-            }
-
-            if (buildServiceConfig.getBuildOutputKind() == null || IMAGE_STREAM_TAG.equals(buildServiceConfig.getBuildOutputKind())) {
-                checkOrCreateImageStream(buildServiceConfig, client, builder, resolveImageStreamName(imageName));
-
-                applyBuild(buildName, dockerTar, builder);
-
-                // Create a file with generated image streams
-                addImageStreamToFile(getImageStreamFile(), imageName, client);
-            } else {
-                applyBuild(buildName, dockerTar, builder);
-            }
+            // Wait until the build finishes
+            waitForOpenShiftBuildToComplete(client, build);
 
+            addImageStreamToFile(applicableImageConfig);
         } catch (JKubeServiceException e) {
             throw e;
         } catch (Exception ex) {
@@ -171,15 +167,110 @@ public class OpenshiftBuildService implements BuildService {
         }
     }
 
-    private void applyBuild(String buildName, File dockerTar, KubernetesListBuilder builder)
-            throws Exception {
-        applyResourceObjects(buildServiceConfig, client, builder);
+    @Override
+    public void buildAll(Collection<ImageConfiguration> imageConfigs) throws JKubeServiceException {
+        if (buildServiceConfig.getS2iBuildThreads() <= 1 || imageConfigs.size() <= 1) {
+            BuildService.super.buildAll(imageConfigs);
+            return;
+        }
+        initClient();
+        final Map<String, ImageConfiguration> submittedBuilds = new LinkedHashMap<>();
+        final List<Throwable> failures = new ArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(buildServiceConfig.getS2iBuildThreads(), imageConfigs.size()), runnable -> {
+                final Thread thread = new Thread(runnable, "jkube-s2i-build");
+                thread.setDaemon(true);
+                return thread;
+            });
+        try {
+            // Create the BuildConfigs and ImageStreams and upload the binary builds concurrently
+            final List<ImageConfiguration> applicableImageConfigs = new ArrayList<>();
+            final List<Future<Build>> submissions = new ArrayList<>();
+            for (ImageConfiguration imageConfig : imageConfigs) {
+                final ImageConfiguration applicableImageConfig = getApplicableImageConfiguration(imageConfig);
+                applicableImageConfigs.add(applicableImageConfig);
+                submissions.add(executor.submit(() -> submitBuild(applicableImageConfig)));
+            }
+            for (int it = 0; it < submissions.size(); it++) {
+                try {
+                    submittedBuilds.put(KubernetesHelper.getName(submissions.get(it).get()), applicableImageConfigs.get(it));
+                } catch (ExecutionException e) {
+                    log.error("Build for %s failed: %s", applicableImageConfigs.get(it).getName(), e.getCause().getMessage());
+                    failures.add(e.getCause());
+                }
+            }
+            // Follow all of the cluster builds at once
+            final Map<String, Throwable> failedBuilds = submittedBuilds.isEmpty() ?
+                Collections.emptyMap() : waitForOpenShiftBuildsToComplete(client, submittedBuilds.keySet());
+            failures.addAll(failedBuilds.values());
+            for (Map.Entry<String, ImageConfiguration> submittedBuild : submittedBuilds.entrySet()) {
+                if (!failedBuilds.containsKey(submittedBuild.getKey())) {
+                    addImageStreamToFile(submittedBuild.getValue());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JKubeServiceException("Interrupted while building the images using the OpenShift build service", e);
+        } catch (IOException | KubernetesClientException e) {
+            throw new JKubeServiceException("Unable to build the images using the OpenShift build service", e);
+        } finally {
+            executor.shutdown();
+        }
+        if (!failures.isEmpty()) {
+            final JKubeServiceException exception = new JKubeServiceException(String.format(
+                "Failed to build %s of %s images using the OpenShift build service", failures.size(), imageConfigs.size()));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    private ImageConfiguration getApplicableImageConfiguration(ImageConfiguration imageConfig) {
+        final ImageConfiguration.ImageConfigurationBuilder applicableImageConfigBuilder = imageConfig.toBuilder();
+        if (imageConfig.getBuildConfiguration() != null && imageConfig.getBuildConfiguration().getAssembly() != null) {
+            applicableImageConfigBuilder.build(imageConfig.getBuild().toBuilder().assembly(
+                imageConfig.getBuildConfiguration().getAssembly().getFlattenedClone(jKubeServiceHub.getConfiguration()))
+                .build());
+        }
+        return applicableImageConfigBuilder.build();
+    }
+
+    /**
+     * Creates or updates the BuildConfig, ImageStream and pull Secret for the provided image and starts the binary build.
+     */
+    private Build submitBuild(ImageConfiguration applicableImageConfig) throws Exception {
+        ImageName imageName = new ImageName(applicableImageConfig.getName());
 
-        // Start the actual build
-        Build build = startBuild(client, dockerTar, buildName);
+        // When streaming, the archive is written while it's being uploaded to the cluster
+        final File dockerTar = buildServiceConfig.isS2iStreamBuildArchive() ?
+            null : createBuildArchive(jKubeServiceHub, applicableImageConfig);
 
-        // Wait until the build finishes
-        waitForOpenShiftBuildToComplete(client, build);
+        KubernetesListBuilder builder = new KubernetesListBuilder();
+
+        final String buildName;
+        // Images built concurrently check and create their resources one at a time, they share the pull Secret
+        // (which would otherwise be created by each of them) and enrichers aren't thread-safe
+        synchronized (resourceObjectsLock) {
+            // Check for buildconfig / imagestream / pullSecret and create them if necessary
+            String openshiftPullSecret = buildServiceConfig.getOpenshiftPullSecret();
+            final boolean usePullSecret = checkOrCreatePullSecret(client, builder, openshiftPullSecret, applicableImageConfig);
+            if (usePullSecret) {
+                buildName = updateOrCreateBuildConfig(buildServiceConfig, client, builder, applicableImageConfig, openshiftPullSecret);
+            } else {
+                buildName = updateOrCreateBuildConfig(buildServiceConfig, client, builder, applicableImageConfig, null);
+            }
+
+            if (isImageStreamTagOutput()) {
+                checkOrCreateImageStream(buildServiceConfig, client, builder, resolveImageStreamName(imageName));
+            }
+            applyResourceObjects(buildServiceConfig, client, builder);
+        }
+
+        return dockerTar != null ?
+            startBuild(client, dockerTar, buildName) : startStreamedBuild(client, applicableImageConfig, buildName);
+    }
+
+    private boolean isImageStreamTagOutput() {
+        return buildServiceConfig.getBuildOutputKind() == null || IMAGE_STREAM_TAG.equals(buildServiceConfig.getBuildOutputKind());
     }
 
     @Override
@@ -423,10 +514,14 @@ public class OpenshiftBuildService implements BuildService {
 
     private Build startBuild(OpenShiftClient client, File dockerTar, String buildName) {
         log.info("Starting Build %s", buildName);
+        return startBuild(client, buildName, binaryBuild -> binaryBuild.fromFile(dockerTar));
+    }
+
+    private Build startBuild(
+        OpenShiftClient client, String buildName, Function<InputStreamable<Build>, Build> binaryBuildSource) {
+
         try {
-            return client.buildConfigs().withName(buildName)
-                    .instantiateBinary()
-                    .fromFile(dockerTar);
+            return binaryBuildSource.apply(client.buildConfigs().withName(buildName).instantiateBinary());
         } catch (KubernetesClientException exp) {
             Status status = exp.getStatus();
             if (status != null) {
@@ -440,6 +535,57 @@ public class OpenshiftBuildService implements BuildService {
         }
     }
 
+    private Build startStreamedBuild(OpenShiftClient client, ImageConfiguration imageConfig, String buildName)
+            throws IOException, JKubeServiceException {
+        log.info("Starting Build %s (streaming build archive)", buildName);
+        final AtomicReference<Exception> archiveFailure = new AtomicReference<>();
+        final PipedOutputStream archiveOut = new PipedOutputStream();
+        // The failure is recorded before the pipe is closed, so the upload never completes with a truncated archive
+        final Thread archiveWriter = new Thread(() -> {
+            try {
+                writeBuildArchive(jKubeServiceHub, imageConfig, new CloseShieldOutputStream(archiveOut));
+            } catch (Exception e) {
+                archiveFailure.set(e);
+            } finally {
+                try {
+                    archiveOut.close();
+                } catch (IOException e) {
+                    log.debug("Unable to close the build archive stream of %s: %s", buildName, e.getMessage());
+                }
+            }
+        }, "jkube-s2i-archive-" + buildName);
+        archiveWriter.setDaemon(true);
+        Build build = null;
+        RuntimeException uploadFailure = null;
+        final ArchiveInputStream archiveIn = new ArchiveInputStream(
+            new PipedInputStream(archiveOut, STREAM_BUILD_ARCHIVE_BUFFER_SIZE), archiveFailure);
+        // Closing the reading end unblocks the writer in case the upload is aborted
+        try (InputStream uploadIn = archiveIn) {
+            archiveWriter.start();
+            build = startBuild(client, buildName, binaryBuild -> binaryBuild.fromInputStream(uploadIn));
+        } catch (RuntimeException exp) {
+            uploadFailure = exp;
+        }
+        try {
+            archiveWriter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JKubeServiceException("Interrupted while streaming the build archive", e);
+        }
+        // The archive failure is only the primary one if the upload failed because of it (incomplete stream)
+        if (uploadFailure != null && !archiveIn.incomplete) {
+            Optional.ofNullable(archiveFailure.get()).ifPresent(uploadFailure::addSuppressed);
+            throw uploadFailure;
+        }
+        if (archiveFailure.get() != null) {
+            final JKubeServiceException exception = new JKubeServiceException(
+                "Unable to stream the build archive", archiveFailure.get());
+            Optional.ofNullable(uploadFailure).ifPresent(exception::addSuppressed);
+            throw exception;
+        }
+        return build;
+    }
+
     private void waitForOpenShiftBuildToComplete(OpenShiftClient client, Build build) throws IOException {
         final CountDownLatch latch = new CountDownLatch(1);
         final CountDownLatch logTerminateLatch = new CountDownLatch(1);
@@ -485,6 +631,113 @@ public class OpenshiftBuildService implements BuildService {
         }
     }
 
+    /**
+     * Follows all of the provided builds through a single Build watch, printing their logs prefixed with the
+     * build name.
+     *
+     * @return the failures of the builds that didn't complete successfully, by build name
+     */
+    private Map<String, Throwable> waitForOpenShiftBuildsToComplete(
+        OpenShiftClient client, Collection<String> buildNames) throws InterruptedException {
+
+        final CountDownLatch latch = new CountDownLatch(buildNames.size());
+        final CountDownLatch logTerminateLatch = new CountDownLatch(1);
+        final Map<String, Build> finishedBuilds = new ConcurrentHashMap<>();
+        final List<LogWatch> logWatches = new CopyOnWriteArrayList<>();
+
+        log.info("Waiting for builds %s to complete...", String.join(", ", buildNames));
+        // Each build gets its own thread, waiting for a build pod must not delay following the logs of the others
+        for (String buildName : buildNames) {
+            final Thread logFollower = new Thread(() -> followBuildLog(client, buildName, logTerminateLatch, logWatches),
+                "jkube-s2i-build-log-" + buildName);
+            logFollower.setDaemon(true);
+            logFollower.start();
+        }
+        try (Watch watcher = client.builds().watch(getBuildsWatcher(latch, buildNames, finishedBuilds))) {
+            // Check if the builds are already finished to avoid waiting indefinitely
+            for (String buildName : buildNames) {
+                final Build lastBuild = client.builds().withName(buildName).get();
+                if (OpenshiftHelper.isFinished(KubernetesHelper.getBuildStatusPhase(lastBuild))
+                    && finishedBuilds.putIfAbsent(buildName, lastBuild) == null) {
+                    log.debug("Build %s is already finished", buildName);
+                    latch.countDown();
+                }
+            }
+            latch.await();
+        } finally {
+            logTerminateLatch.countDown();
+            logWatches.forEach(LogWatch::close);
+        }
+
+        final Map<String, Throwable> failures = new LinkedHashMap<>();
+        for (String buildName : buildNames) {
+            Build build = finishedBuilds.get(buildName);
+            if (build == null) {
+                log.debug("Build watcher on %s was closed prematurely", buildName);
+                build = client.builds().withName(buildName).get();
+            }
+            String status = KubernetesHelper.getBuildStatusPhase(build);
+            if (OpenshiftHelper.isFailed(status) || OpenshiftHelper.isCancelled(status)) {
+                log.error("Build %s failed: %s", buildName, KubernetesHelper.getBuildStatusReason(build));
+                failures.put(buildName, new IOException("OpenShift Build " + buildName + " failed: " + KubernetesHelper.getBuildStatusReason(build)));
+            } else if (!OpenshiftHelper.isFinished(status)) {
+                log.warn("Could not wait for the completion of build %s. It may be still running (status=%s)", buildName, status);
+            } else {
+                log.info("Build %s in status %s", buildName, status);
+            }
+        }
+        return failures;
+    }
+
+    private void followBuildLog(
+        OpenShiftClient client, String buildName, CountDownLatch logTerminateLatch, List<LogWatch> logWatches) {
+
+        // Don't query for logs directly, Watch over the build pod:
+        waitUntilPodIsReady(buildName + "-build", 120, log);
+        if (logTerminateLatch.getCount() > 0L) {
+            final LogWatch logWatch = client.pods().withName(buildName + "-build").watchLog();
+            logWatches.add(logWatch);
+            KubernetesHelper.printLogsAsync(logWatch,
+                "Failed to tail build log of " + buildName, logTerminateLatch, log, "[" + buildName + "] ");
+        }
+    }
+
+    private Watcher<Build> getBuildsWatcher(
+        final CountDownLatch latch, final Collection<String> buildNames, final Map<String, Build> finishedBuilds) {
+
+        return new Watcher<Build>() {
+
+            private final Map<String, String> lastStatuses = new ConcurrentHashMap<>();
+
+            @Override
+            public void eventReceived(Action action, Build build) {
+                final String buildName = KubernetesHelper.getName(build);
+                if (!buildNames.contains(buildName)) {
+                    return;
+                }
+                String status = KubernetesHelper.getBuildStatusPhase(build);
+                log.verbose("BuildWatch: Received event %s , build %s status: %s", action, buildName, build.getStatus());
+                if (!Objects.equals(lastStatuses.put(buildName, String.valueOf(status)), String.valueOf(status))) {
+                    log.verbose("Build %s status: %s", buildName, status);
+                }
+                if (OpenshiftHelper.isFinished(status) && finishedBuilds.putIfAbsent(buildName, build) == null) {
+                    latch.countDown();
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                if (cause != null) {
+                    log.error("Error while watching for builds to finish: %s ",
+                            cause.getMessage());
+                }
+                while (latch.getCount() > 0L) {
+                    latch.countDown();
+                }
+            }
+        };
+    }
+
     /**
      * A Simple utility function to watch over pod until it gets ready
      *
@@ -599,9 +852,12 @@ public class OpenshiftBuildService implements BuildService {
         }
     }
 
-    private void addImageStreamToFile(File imageStreamFile, ImageName imageName, OpenShiftClient client) throws IOException {
-        ImageStreamService imageStreamHandler = new ImageStreamService(client, log);
-        imageStreamHandler.appendImageStreamResource(imageName, imageStreamFile);
+    // Create a file with generated image streams
+    private void addImageStreamToFile(ImageConfiguration imageConfig) throws IOException {
+        if (isImageStreamTagOutput()) {
+            ImageStreamService imageStreamHandler = new ImageStreamService(client, log);
+            imageStreamHandler.appendImageStreamResource(new ImageName(imageConfig.getName()), getImageStreamFile());
+        }
     }
 
     // == Utility methods ==========================
@@ -620,5 +876,35 @@ public class OpenshiftBuildService implements BuildService {
         return keyToQuantityMap;
     }
 
+    /**
+     * Fails the upload instead of reaching the end of the stream when the archive couldn't be completely written.
+     */
+    private static final class ArchiveInputStream extends FilterInputStream {
+
+        private final AtomicReference<Exception> archiveFailure;
+        private volatile boolean incomplete;
+
+        private ArchiveInputStream(InputStream in, AtomicReference<Exception> archiveFailure) {
+            super(in);
+            this.archiveFailure = archiveFailure;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return checkEndOfStream(super.read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return checkEndOfStream(super.read(b, off, len));
+        }
 
+        private int checkEndOfStream(int read) throws IOException {
+            if (read < 0 && archiveFailure.get() != null) {
+                incomplete = true;
+                throw new IOException("Build archive is incomplete", archiveFailure.get());
+            }
+            return read;
+        }
+    }
 }
@@ -17,6 +17,7 @@ package org.eclipse.jkube.kit.config.service;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -53,6 +54,7 @@ import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.api.model.RouteBuilder;
 import io.fabric8.openshift.client.server.mock.OpenShiftServer;
 import mockit.Mocked;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -61,8 +63,10 @@ import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static java.net.HttpURLConnection.HTTP_CREATED;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNSUPPORTED_TYPE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 public class ApplyServiceTest {
@@ -226,7 +230,7 @@ public class ApplyServiceTest {
                 .withPath("/apis/apiextensions.k8s.io/v1beta1/customresourcedefinitions")
                 .andReply(collector.record("get-crds").andReturn(HTTP_OK, new CustomResourceDefinitionListBuilder()
                     .withItems(virtualServiceCRD(), gatewayCRD()).build()))
-                .times(2);
+                .once();
         mockServer.expect().post()
                 .withPath("/apis/networking.istio.io/v1alpha3/namespaces/default/virtualservices")
                 .andReply(collector.record("post-cr-virtualservice").andReturn(HTTP_OK, "{}"))
@@ -241,8 +245,8 @@ public class ApplyServiceTest {
         applyService.applyGenericCustomResource(virtualService, virtualServiceFragment.getName());
 
         // Then
-        collector.assertEventsRecordedInOrder("get-crds", "post-cr-gateway", "get-crds", "post-cr-virtualservice");
-        assertEquals(7, mockServer.getMockServer().getRequestCount());
+        collector.assertEventsRecordedInOrder("get-crds", "post-cr-gateway", "post-cr-virtualservice");
+        assertEquals(6, mockServer.getMockServer().getRequestCount());
     }
 
     @Test
@@ -257,7 +261,7 @@ public class ApplyServiceTest {
                 .withPath("/apis/apiextensions.k8s.io/v1beta1/customresourcedefinitions")
                 .andReply(collector.record("get-crds").andReturn(HTTP_OK, new CustomResourceDefinitionListBuilder()
                     .withItems(virtualServiceCRD(), gatewayCRD()).build()))
-                .times(2);
+                .once();
         mockServer.expect().get()
                 .withPath("/apis/networking.istio.io/v1alpha3/namespaces/default/virtualservices/reviews-route")
                 .andReply(collector.record("get-cr-virtualservice").andReturn(HTTP_OK, "{\"metadata\":{\"resourceVersion\":\"1001\"}}"))
@@ -286,8 +290,8 @@ public class ApplyServiceTest {
         // Then
         collector.assertEventsRecordedInOrder(
             "get-crds", "get-cr-gateway", "post-cr-gateway", "put-cr-gateway",
-            "get-crds", "get-cr-virtualservice", "post-cr-virtualservice");
-        assertEquals(8, mockServer.getMockServer().getRequestCount());
+            "get-cr-virtualservice", "post-cr-virtualservice");
+        assertEquals(7, mockServer.getMockServer().getRequestCount());
     }
 
     @Test
@@ -302,7 +306,7 @@ public class ApplyServiceTest {
                 .withPath("/apis/apiextensions.k8s.io/v1beta1/customresourcedefinitions")
                 .andReply(collector.record("get-crds").andReturn(HTTP_OK, new CustomResourceDefinitionListBuilder()
                     .withItems(virtualServiceCRD(), gatewayCRD()).build()))
-                .times(2);
+                .once();
         mockServer.expect().delete()
                 .withPath("/apis/networking.istio.io/v1alpha3/namespaces/default/virtualservices/reviews-route")
                 .andReply(collector.record("delete-cr-virtualservice").andReturn(HTTP_OK, "{\"kind\":\"Status\",\"status\":\"Success\"}"))
@@ -326,8 +330,8 @@ public class ApplyServiceTest {
         applyService.applyGenericCustomResource(virtualService, virtualServiceFragment.getName());
 
         // Then
-        collector.assertEventsRecordedInOrder("get-crds", "delete-cr-gateway", "post-cr-gateway", "get-crds", "delete-cr-virtualservice", "post-cr-virtualservice");
-        assertEquals(11, mockServer.getMockServer().getRequestCount());
+        collector.assertEventsRecordedInOrder("get-crds", "delete-cr-gateway", "post-cr-gateway", "delete-cr-virtualservice", "post-cr-virtualservice");
+        assertEquals(10, mockServer.getMockServer().getRequestCount());
         applyService.setRecreateMode(false);
     }
 
@@ -367,6 +371,176 @@ public class ApplyServiceTest {
         assertTrue(result.get(0) instanceof Project);
     }
 
+    @Test
+    public void testGetK8sListGroupedByApplyTier() {
+        // Given
+        List<HasMetadata> k8sList = new ArrayList<>();
+        k8sList.add(buildRoute());
+        k8sList.add(new DeploymentBuilder().withNewMetadata().withName("d1").endMetadata().build());
+        k8sList.add(new ServiceBuilder().withNewMetadata().withName("svc1").endMetadata().build());
+        k8sList.add(new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build());
+        k8sList.add(new ServiceAccountBuilder().withNewMetadata().withName("sa1").endMetadata().build());
+        k8sList.add(gatewayCRD());
+        k8sList.add(new NamespaceBuilder().withNewMetadata().withName("n1").endMetadata().build());
+        k8sList.add(new ConfigMapBuilder().withNewMetadata().withName("c2").endMetadata().build());
+
+        // When
+        List<List<HasMetadata>> result = ApplyService.getK8sListGroupedByApplyTier(k8sList);
+
+        // Then
+        assertEquals(7, result.size());
+        assertTrue(result.get(0).get(0) instanceof Namespace);
+        assertTrue(result.get(1).get(0) instanceof CustomResourceDefinition);
+        assertTrue(result.get(2).get(0) instanceof ServiceAccount);
+        assertEquals(2, result.get(3).size());
+        assertEquals("c1", result.get(3).get(0).getMetadata().getName());
+        assertEquals("c2", result.get(3).get(1).getMetadata().getName());
+        assertEquals("svc1", result.get(4).get(0).getMetadata().getName());
+        assertEquals("d1", result.get(5).get(0).getMetadata().getName());
+        assertTrue(result.get(6).get(0) instanceof Route);
+    }
+
+    @Test
+    public void testApplyEntitiesWithApplyThreads() throws Exception {
+        // Given
+        final List<HasMetadata> entities = Arrays.asList(
+            new DeploymentBuilder().withNewMetadata().withName("d1").endMetadata().build(),
+            new ServiceBuilder().withNewMetadata().withName("svc1").endMetadata().build(),
+            new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build(),
+            new ConfigMapBuilder().withNewMetadata().withName("c2").endMetadata().build()
+        );
+        WebServerEventCollector collector = new WebServerEventCollector();
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces/default/configmaps")
+            .andReply(collector.record("new-configmap").andReturn(HTTP_CREATED, ""))
+            .times(2);
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces/default/services")
+            .andReply(collector.record("new-service").andReturn(HTTP_CREATED, ""))
+            .once();
+        mockServer.expect().post()
+            .withPath("/apis/apps/v1/namespaces/default/deployments")
+            .andReply(collector.record("new-deploy").andReturn(HTTP_CREATED, ""))
+            .once();
+        applyService.setApplyThreads(4);
+
+        // When
+        applyService.applyEntities("foo.yml", entities, log, 5);
+
+        // Then
+        collector.assertEventsRecordedInOrder("new-configmap", "new-configmap", "new-service", "new-deploy");
+    }
+
+    @Test
+    public void testApplyEntitiesWithApplyThreadsAggregatesFailures() {
+        // Given
+        final List<HasMetadata> entities = Arrays.asList(
+            new ServiceBuilder().withNewMetadata().withName("svc1").endMetadata().build(),
+            new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build(),
+            new ConfigMapBuilder().withNewMetadata().withName("c2").endMetadata().build()
+        );
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces/default/configmaps")
+            .andReturn(HTTP_CONFLICT, "")
+            .times(2);
+        applyService.setApplyThreads(2);
+
+        // When
+        RuntimeException result = assertThrows(RuntimeException.class,
+            () -> applyService.applyEntities("foo.yml", entities, log, 5));
+
+        // Then
+        assertEquals("Failed to apply 2 of 2 resources from foo.yml", result.getMessage());
+        assertEquals(2, result.getSuppressed().length);
+    }
+
+    @Test
+    public void testApplyEntitiesWithServerSideApply() throws Exception {
+        // Given
+        final List<HasMetadata> entities = Arrays.asList(
+            new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build(),
+            new ServiceBuilder().withNewMetadata().withName("svc1").endMetadata().build()
+        );
+        WebServerEventCollector collector = new WebServerEventCollector();
+        mockServer.expect().patch()
+            .withPath("/api/v1/namespaces/default/configmaps/c1?fieldManager=jkube&force=true")
+            .andReply(collector.record("apply-configmap").andReturn(HTTP_OK, entities.get(0)))
+            .once();
+        mockServer.expect().patch()
+            .withPath("/api/v1/namespaces/default/services/svc1?fieldManager=jkube&force=true")
+            .andReply(collector.record("apply-service").andReturn(HTTP_OK, entities.get(1)))
+            .once();
+        applyService.setServerSideApply(true);
+
+        // When
+        applyService.applyEntities("foo.yml", entities, log, 5);
+
+        // Then
+        collector.assertEventsRecorded("apply-configmap", "apply-service");
+        RecordedRequest request = mockServer.getMockServer().takeRequest();
+        while (!request.getMethod().equals("PATCH")) {
+            request = mockServer.getMockServer().takeRequest();
+        }
+        assertEquals("application/apply-patch+yaml; charset=utf-8", request.getHeader("Content-Type"));
+    }
+
+    @Test
+    public void testApplyEntitiesWithServerSideApplyUnsupportedFallsBack() throws Exception {
+        // Given
+        final List<HasMetadata> entities = Collections.singletonList(
+            new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build());
+        WebServerEventCollector collector = new WebServerEventCollector();
+        mockServer.expect().patch()
+            .withPath("/api/v1/namespaces/default/configmaps/c1?fieldManager=jkube&force=true")
+            .andReply(collector.record("apply-configmap").andReturn(HTTP_UNSUPPORTED_TYPE, ""))
+            .once();
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces/default/configmaps")
+            .andReply(collector.record("new-configmap").andReturn(HTTP_CREATED, ""))
+            .once();
+        applyService.setServerSideApply(true);
+
+        // When
+        applyService.applyEntities("foo.yml", entities, log, 5);
+
+        // Then
+        collector.assertEventsRecordedInOrder("apply-configmap", "new-configmap");
+    }
+
+    @Test
+    public void testApplyEntitiesWithServerSideApplyFailureDoesNotFallBack() throws Exception {
+        // Given
+        final List<HasMetadata> entities = Collections.singletonList(
+            new ConfigMapBuilder().withNewMetadata().withName("c1").endMetadata().build());
+        WebServerEventCollector collector = new WebServerEventCollector();
+        mockServer.expect().patch()
+            .withPath("/api/v1/namespaces/default/configmaps/c1?fieldManager=jkube&force=true")
+            .andReply(collector.record("apply-configmap").andReturn(HTTP_CONFLICT, ""))
+            .once();
+        mockServer.expect().post()
+            .withPath("/api/v1/namespaces/default/configmaps")
+            .andReply(collector.record("new-configmap").andReturn(HTTP_CREATED, ""))
+            .once();
+        final List<String> errors = new ArrayList<>();
+        applyService = new ApplyService(mockServer.getOpenshiftClient(), log) {
+            @Override
+            protected void onApplyError(String message, Exception e) {
+                errors.add(message);
+            }
+        };
+        applyService.setNamespace("default");
+        applyService.setServerSideApply(true);
+
+        // When
+        applyService.applyEntities("foo.yml", entities, log, 5);
+
+        // Then
+        collector.assertEventsRecorded("apply-configmap");
+        collector.assertEventsNotRecorded("new-configmap");
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("Failed to apply ConfigMap from foo.yml"));
+    }
+
     @Test
     public void testApplyToMultipleNamespaceNoNamespaceConfigured() throws InterruptedException {
         // Given
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service;
+
+import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
+import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionBuilder;
+import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.eclipse.jkube.kit.common.GenericCustomResource;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings({"ResultOfMethodCallIgnored", "unused"})
+public class CustomResourceDefinitionCacheTest {
+
+    @Mocked
+    private KubernetesClient client;
+
+    private CustomResourceDefinitionCache cache;
+
+    @Before
+    public void setUp() {
+        // @formatter:off
+        new Expectations() {{
+            client.apiextensions().v1beta1().customResourceDefinitions().list();
+            result = new CustomResourceDefinitionListBuilder()
+                .withItems(crd("networking.istio.io", "Gateway", "v1alpha3", null), crd("example.com", "Foo", null, "v1"))
+                .build();
+        }};
+        // @formatter:on
+        cache = new CustomResourceDefinitionCache(client);
+    }
+
+    @Test
+    public void getCrdContext_withMultipleLookups_shouldListCrdsOnce() {
+        // When
+        final CustomResourceDefinitionContext gateway = cache.getCrdContext(customResource("networking.istio.io/v1alpha3", "Gateway"));
+        final CustomResourceDefinitionContext foo = cache.getCrdContext(customResource("example.com/v1", "Foo"));
+        final CustomResourceDefinitionContext missing = cache.getCrdContext(customResource("example.com/v2", "Foo"));
+        // Then
+        assertThat(gateway).hasFieldOrPropertyWithValue("group", "networking.istio.io")
+            .hasFieldOrPropertyWithValue("plural", "gateways");
+        assertThat(foo).hasFieldOrPropertyWithValue("group", "example.com");
+        assertThat(missing).isNull();
+        // @formatter:off
+        new Verifications() {{
+            client.apiextensions().v1beta1().customResourceDefinitions().list(); times = 1;
+        }};
+        // @formatter:on
+    }
+
+    @Test
+    public void getCrdContext_afterInvalidate_shouldListCrdsAgain() {
+        // Given
+        cache.getCrdContext(customResource("example.com/v1", "Foo"));
+        // When
+        cache.invalidate();
+        cache.getCrdContext(customResource("example.com/v1", "Foo"));
+        // Then
+        // @formatter:off
+        new Verifications() {{
+            client.apiextensions().v1beta1().customResourceDefinitions().list(); times = 2;
+        }};
+        // @formatter:on
+    }
+
+    private static GenericCustomResource customResource(String apiVersion, String kind) {
+        final GenericCustomResource customResource = new GenericCustomResource();
+        customResource.setApiVersion(apiVersion);
+        customResource.setKind(kind);
+        return customResource;
+    }
+
+    private static CustomResourceDefinition crd(String group, String kind, String version, String versionsItem) {
+        final CustomResourceDefinitionBuilder builder = new CustomResourceDefinitionBuilder()
+            .withNewMetadata().withName(kind.toLowerCase() + "s." + group).endMetadata()
+            .withNewSpec().withGroup(group).withVersion(version).withScope("Namespaced")
+            .withNewNames().withKind(kind).withPlural(kind.toLowerCase() + "s").endNames()
+            .endSpec();
+        if (versionsItem != null) {
+            builder.editSpec().addNewVersion().withName(versionsItem).withServed(true).withStorage(true).endVersion().endSpec();
+        }
+        return builder.build();
+    }
+}
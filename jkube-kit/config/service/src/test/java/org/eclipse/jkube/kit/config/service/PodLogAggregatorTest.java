@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PodLogAggregatorTest {
+
+    private List<String> printed;
+    private List<String> warnings;
+    private List<String> sinceTimes;
+    private PodLogAggregator podLogAggregator;
+
+    @Before
+    public void setUp() {
+        printed = new CopyOnWriteArrayList<>();
+        warnings = new CopyOnWriteArrayList<>();
+        sinceTimes = new CopyOnWriteArrayList<>();
+        podLogAggregator = new PodLogAggregator(new KitLogger.StdoutLogger() {
+            @Override
+            public void info(String format, Object... params) {
+                printed.add(String.format(format, params));
+            }
+
+            @Override
+            public void warn(String format, Object... params) {
+                warnings.add(String.format(format, params));
+            }
+        }, 2);
+    }
+
+    @After
+    public void tearDown() {
+        podLogAggregator.close();
+    }
+
+    @Test
+    public void follow_withMultiplePodsAndContainers_shouldPrintTaggedLinesOfAll() throws Exception {
+        // Given
+        final CountDownLatch finished = new CountDownLatch(3);
+        // When
+        podLogAggregator.follow("pod-1", "app", since -> logWatch(finished, "first"), () -> false);
+        podLogAggregator.follow("pod-1", "sidecar", since -> logWatch(finished, "second"), () -> false);
+        podLogAggregator.follow("pod-2", "app", since -> logWatch(finished, "third"), () -> false);
+        // Then
+        assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+        podLogAggregator.close();
+        assertThat(printed).containsExactlyInAnyOrder(
+            "[[s]][pod-1/app] first", "[[s]][pod-1/sidecar] second", "[[s]][pod-2/app] third");
+    }
+
+    @Test
+    public void follow_withAlreadyFollowedContainer_shouldNotFollowAgain() {
+        // Given
+        podLogAggregator.follow("pod-1", "app", since -> logWatch(new CountDownLatch(1)), () -> true);
+        // When
+        final boolean result = podLogAggregator.follow("pod-1", "app", since -> logWatch(new CountDownLatch(1)), () -> true);
+        // Then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void follow_withMaximumStreamsFollowed_shouldRefuseWithWarning() {
+        // Given
+        podLogAggregator.follow("pod-1", "app", since -> blockingLogWatch(new CountDownLatch(1)), () -> true);
+        podLogAggregator.follow("pod-2", "app", since -> blockingLogWatch(new CountDownLatch(1)), () -> true);
+        // When
+        final boolean result = podLogAggregator.follow("pod-3", "app", since -> blockingLogWatch(new CountDownLatch(1)), () -> true);
+        // Then
+        assertThat(result).isFalse();
+        assertThat(warnings).containsExactly(
+            "Not following the log of pod-3/app, the maximum of 2 logs are already being followed");
+    }
+
+    @Test
+    public void follow_withInterruptedStreamOfRunningPod_shouldResumeSinceLastLineWithoutDuplicates() throws Exception {
+        // Given
+        final CountDownLatch finished = new CountDownLatch(2);
+        final AtomicInteger running = new AtomicInteger(1);
+        // When
+        podLogAggregator.follow("pod-1", "app", since -> {
+            sinceTimes.add(String.valueOf(since));
+            return since == null ? logWatch(finished, "line-1", "line-2") : logWatch(finished, "line-1", "line-2", "line-3");
+        }, () -> running.getAndDecrement() > 0);
+        // Then
+        assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+        podLogAggregator.close();
+        assertThat(sinceTimes).hasSize(2).first().isEqualTo("null");
+        assertThat(sinceTimes.get(1)).matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}Z");
+        assertThat(printed).containsExactly("[[s]][pod-1/app] line-1", "[[s]][pod-1/app] line-2", "[[s]][pod-1/app] line-3");
+    }
+
+    @Test
+    public void follow_withFailingRunningCheck_shouldRetryAfterDelay() throws Exception {
+        // Given
+        final CountDownLatch finished = new CountDownLatch(2);
+        final AtomicInteger checks = new AtomicInteger();
+        // When
+        podLogAggregator.follow("pod-1", "app", since -> since == null ?
+            logWatch(finished, "line-1") : logWatch(finished, "line-1", "line-2"), () -> {
+            if (checks.getAndIncrement() == 0) {
+                throw new KubernetesClientException("Connection reset");
+            }
+            return false;
+        });
+        // Then
+        assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+        podLogAggregator.close();
+        assertThat(warnings).containsExactly("Failed to check whether pod-1 is still running: Connection reset");
+        assertThat(printed).containsExactly("[[s]][pod-1/app] line-1", "[[s]][pod-1/app] line-2");
+    }
+
+    @Test
+    public void follow_withUnexpectedRunningCheckFailure_shouldReleaseStream() throws Exception {
+        // Given
+        final CountDownLatch checked = new CountDownLatch(1);
+        podLogAggregator.follow("pod-1", "app", since -> logWatch(new CountDownLatch(1)), () -> {
+            checked.countDown();
+            throw new IllegalStateException("Unexpected");
+        });
+        assertThat(checked.await(10, TimeUnit.SECONDS)).isTrue();
+        // When
+        // The stream is released by its reader thread right after the check
+        boolean result = podLogAggregator.follow("pod-1", "app", since -> logWatch(new CountDownLatch(1)), () -> false);
+        for (int it = 0; it < 100 && !result; it++) {
+            Thread.sleep(50L);
+            result = podLogAggregator.follow("pod-1", "app", since -> logWatch(new CountDownLatch(1)), () -> false);
+        }
+        // Then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void stop_withFollowedPod_shouldCloseLogWatch() throws Exception {
+        // Given
+        final CountDownLatch closed = new CountDownLatch(1);
+        final CountDownLatch opened = new CountDownLatch(1);
+        podLogAggregator.follow("pod-1", "app", since -> {
+            opened.countDown();
+            return blockingLogWatch(closed);
+        }, () -> true);
+        assertThat(opened.await(10, TimeUnit.SECONDS)).isTrue();
+        // When
+        podLogAggregator.stop("pod-1");
+        // Then
+        assertThat(closed.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static LogWatch logWatch(CountDownLatch closed, String... lines) {
+        final InputStream output = new ByteArrayInputStream(
+            String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return new LogWatch() {
+            @Override
+            public InputStream getOutput() {
+                return output;
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+    }
+
+    private static LogWatch blockingLogWatch(CountDownLatch closed) {
+        final InputStream output = new InputStream() {
+            @Override
+            public int read() {
+                try {
+                    closed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return -1;
+            }
+        };
+        return new LogWatch() {
+            @Override
+            public InputStream getOutput() {
+                return output;
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+    }
+}
@@ -15,8 +15,11 @@ package org.eclipse.jkube.kit.config.service.kubernetes;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 
 import org.assertj.core.api.Condition;
 import org.eclipse.jkube.kit.common.Assembly;
@@ -27,16 +30,21 @@ import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.RegistryConfig;
 import org.eclipse.jkube.kit.common.assertj.ArchiveAssertions;
-import org.eclipse.jkube.kit.common.assertj.FileAssertions;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 import org.eclipse.jkube.kit.config.service.JKubeServiceException;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
+import org.eclipse.jkube.kit.service.jib.JibContainerizerConfiguration;
+import org.eclipse.jkube.kit.service.jib.JibServiceUtil;
 
+import com.google.cloud.tools.jib.api.Credential;
+import com.google.cloud.tools.jib.api.JibContainerBuilder;
+import com.google.cloud.tools.jib.api.TarImage;
 import mockit.Expectations;
+import mockit.Mock;
+import mockit.MockUp;
 import mockit.Mocked;
 import org.apache.commons.io.FileUtils;
-import org.assertj.core.api.AbstractFileAssert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -101,6 +109,117 @@ public class JibBuildServiceBuildIntegrationTest {
         .getCause().hasMessage("Dockerfile mode is not supported with JIB build strategy");
   }
 
+  @Test
+  public void build_withPushOnBuild_shouldBuildAndPushToRegistry() throws Exception {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      hub.getBuildServiceConfig().isJibPushOnBuild(); result = true;
+    }};
+    // @formatter:on
+    final List<ImageConfiguration> pushedImages = new ArrayList<>();
+    new MockUp<JibServiceUtil>() {
+      @Mock
+      void buildAndPushContainer(
+          JibContainerBuilder jibContainerBuilder, ImageConfiguration imageConfiguration, Credential pushCredentials,
+          JibContainerizerConfiguration configuration, KitLogger logger) {
+        pushedImages.add(imageConfiguration);
+      }
+      @Mock
+      void buildContainer(
+          JibContainerBuilder jibContainerBuilder, TarImage image, JibContainerizerConfiguration configuration,
+          KitLogger logger) {
+        throw new AssertionError("Image tarball should not be built");
+      }
+    };
+    FileUtils.touch(new File(targetDirectory, "final-artifact.jar"));
+    // When
+    new JibBuildService(hub).build(imageConfiguration);
+    // Then
+    assertThat(pushedImages).containsExactly(imageConfiguration);
+    assertThat(resolveDockerBuildDirs().resolve("tmp").resolve("docker-build.tar")).doesNotExist();
+  }
+
+  @Test
+  public void build_withPushOnBuildAndPushRegistryConfig_shouldPrependPushRegistry() throws Exception {
+    // Given
+    // @formatter:off
+    new Expectations() {{
+      hub.getBuildServiceConfig().isJibPushOnBuild(); result = true;
+      hub.getBuildServiceConfig().getJibPushRegistryConfig();
+      result = RegistryConfig.builder().registry("push-registry.example.com").settings(Collections.emptyList()).build();
+    }};
+    // @formatter:on
+    final ImageConfiguration ic = imageConfiguration.toBuilder().name("image-name:tag").build();
+    final List<String> pushedImages = new ArrayList<>();
+    new MockUp<JibServiceUtil>() {
+      @Mock
+      void buildAndPushContainer(
+          JibContainerBuilder jibContainerBuilder, ImageConfiguration imageConfiguration, Credential pushCredentials,
+          JibContainerizerConfiguration configuration, KitLogger logger) {
+        pushedImages.add(imageConfiguration.getName());
+      }
+    };
+    FileUtils.touch(new File(targetDirectory, "final-artifact.jar"));
+    // When
+    new JibBuildService(hub).build(ic);
+    // Then
+    assertThat(pushedImages).containsExactly("push-registry.example.com/image-name:tag");
+  }
+
+  @Test
+  public void build_withAssembly_shouldBuildImageFromSourceFilesWithoutCopying() throws Exception {
+    // Given
+    final List<TarImage> builtImages = new ArrayList<>();
+    new MockUp<JibServiceUtil>() {
+      @Mock
+      void buildContainer(
+          JibContainerBuilder jibContainerBuilder, TarImage image, JibContainerizerConfiguration configuration,
+          KitLogger logger) {
+        builtImages.add(image);
+      }
+    };
+    FileUtils.touch(new File(targetDirectory, "final-artifact.jar"));
+    // When
+    new JibBuildService(hub).build(imageConfiguration);
+    // Then
+    assertThat(builtImages).singleElement()
+        .hasFieldOrPropertyWithValue("path", resolveDockerBuildDirs().resolve("tmp").resolve("docker-build.tar"));
+    assertThat(resolveDockerBuildDirs().resolve("tmp")).isDirectory();
+    assertThat(resolveDockerBuildDirs().resolve("build")).doesNotExist();
+  }
+
+  @Test
+  public void build_withCacheConfiguration_shouldBuildWithConfiguredCachesAndSharedExecutor() throws Exception {
+    // Given
+    final File baseImageCache = temporaryFolder.newFolder("base-image-cache");
+    final File applicationCache = temporaryFolder.newFolder("application-cache");
+    final ExecutorService executorService = JibServiceUtil.getSharedExecutorService();
+    // @formatter:off
+    new Expectations() {{
+      hub.getBuildServiceConfig().getJibBaseImageCacheDirectory(); result = baseImageCache;
+      hub.getBuildServiceConfig().getJibApplicationCacheDirectory(); result = applicationCache;
+    }};
+    // @formatter:on
+    final List<JibContainerizerConfiguration> configurations = new ArrayList<>();
+    new MockUp<JibServiceUtil>() {
+      @Mock
+      void buildContainer(
+          JibContainerBuilder jibContainerBuilder, TarImage image, JibContainerizerConfiguration configuration,
+          KitLogger logger) {
+        configurations.add(configuration);
+      }
+    };
+    FileUtils.touch(new File(targetDirectory, "final-artifact.jar"));
+    // When
+    new JibBuildService(hub).build(imageConfiguration);
+    // Then
+    assertThat(configurations).singleElement()
+        .hasFieldOrPropertyWithValue("baseImageLayersCacheDirectory", baseImageCache)
+        .hasFieldOrPropertyWithValue("applicationLayersCacheDirectory", applicationCache)
+        .hasFieldOrPropertyWithValue("executorService", executorService);
+  }
+
   @Test
   public void build_withLayersAndArtifact_shouldPerformJibBuild() throws Exception {
     // Given
@@ -131,28 +250,7 @@ public class JibBuildServiceBuildIntegrationTest {
     // When
     jibBuildService.build(ic);
     // Then
-    assertDockerFile()
-        .hasContent("FROM busybox\n" +
-            "COPY /deployments-layer/deployments /deployments/\n" +
-            "COPY /other-layer/deployments /deployments/\n" +
-            "COPY /jkube-generated-layer-final-artifact/deployments /deployments/\n" +
-            "VOLUME [\"/deployments\"]");
-    FileAssertions.assertThat(resolveDockerBuildDirs().resolve("build").toFile())
-        .fileTree()
-        .containsExactlyInAnyOrder(
-            "Dockerfile",
-            "deployments-layer",
-            "deployments-layer/deployments",
-            "deployments-layer/deployments/to-deployments.txt",
-            "other-layer",
-            "other-layer/deployments",
-            "other-layer/deployments/other",
-            "other-layer/deployments/other/to-other.txt",
-            "jkube-generated-layer-final-artifact",
-            "jkube-generated-layer-final-artifact/deployments",
-            "jkube-generated-layer-final-artifact/deployments/final-artifact.jar",
-            "deployments"
-        );
+    assertThat(resolveDockerBuildDirs().resolve("build")).doesNotExist();
     ArchiveAssertions.assertThat(resolveDockerBuildDirs().resolve("tmp").resolve("docker-build.tar").toFile())
       .fileTree()
       .hasSize(6)
@@ -166,8 +264,4 @@ public class JibBuildServiceBuildIntegrationTest {
     return projectRoot.toPath().resolve("target")
         .resolve("docker").resolve("registry").resolve("image-name").resolve("tag");
   }
-
-  private AbstractFileAssert<?> assertDockerFile() {
-    return assertThat(resolveDockerBuildDirs().resolve("build").resolve("Dockerfile").toFile()).isFile().exists();
-  }
 }
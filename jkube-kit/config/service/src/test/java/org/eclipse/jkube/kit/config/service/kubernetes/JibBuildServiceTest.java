@@ -30,6 +30,7 @@ import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.config.image.build.JKubeBuildStrategy;
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
+import org.eclipse.jkube.kit.service.jib.JibContainerizerConfiguration;
 import org.eclipse.jkube.kit.service.jib.JibServiceUtil;
 import org.junit.Test;
 
@@ -130,21 +131,6 @@ public class JibBuildServiceTest {
     }
 
 
-    @Test
-    public void testGetAssemblyTarArchive() throws IOException {
-        // Given
-        File projectBaseDir = Files.createTempDirectory("test").toFile();
-        ImageConfiguration imageConfiguration = getImageConfiguration();
-        // When
-        File tarArchive = JibBuildService.getAssemblyTarArchive(imageConfiguration, createJKubeConfiguration(projectBaseDir), logger);
-        // Then
-        assertThat(tarArchive)
-          .isNotNull()
-          .isEqualTo(projectBaseDir.toPath().resolve(
-            FileSystems.getDefault().getPath("target", "test", "testimage", "0.0.1", "tmp", "docker-build.tar")
-          ).toFile());
-    }
-
     @Test
     public void testPrependRegistry() {
         // Given
@@ -163,7 +149,9 @@ public class JibBuildServiceTest {
         // Then
         // @formatter:off
         new Verifications() {{
-            JibServiceUtil.jibPush((ImageConfiguration)any, (Credential)any, (File)any, logger); times = 0;
+            JibServiceUtil.jibPush(
+                (ImageConfiguration)any, (Credential)any, (File)any, (JibContainerizerConfiguration)any, logger);
+            times = 0;
         }};
         // @formatter:on
     }
@@ -184,12 +172,60 @@ public class JibBuildServiceTest {
                 imageConfiguration,
                 Credential.from("testuserpush", "testpass"),
                 (File)any,
+                (JibContainerizerConfiguration)any,
                 logger);
             times = 1;
         }};
         // @formatter:on
     }
 
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @Test
+    public void push_withReproducible_shouldPushWithReproducibleConfiguration(
+        @Mocked JibServiceUtil jibServiceUtil) throws Exception {
+        // Given
+        mockAuthConfig();
+        // @formatter:off
+        new Expectations() {{
+            serviceHub.getBuildServiceConfig().isJibReproducible(); result = true;
+        }};
+        // @formatter:on
+        // When
+        new JibBuildService(serviceHub).push(
+            Collections.singletonList(getImageConfiguration()), 1, RegistryConfig.builder().build(), false);
+        // Then
+        // @formatter:off
+        new Verifications() {{
+            JibContainerizerConfiguration configuration;
+            JibServiceUtil.jibPush(
+                (ImageConfiguration)any, (Credential)any, (File)any, configuration = withCapture(), logger);
+            times = 1;
+            assertThat(configuration.isReproducible()).isTrue();
+        }};
+        // @formatter:on
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @Test
+    public void push_withPushOnBuild_shouldSkipPush(@Mocked JibServiceUtil jibServiceUtil) throws Exception {
+        // Given
+        // @formatter:off
+        new Expectations() {{
+            serviceHub.getBuildServiceConfig().isJibPushOnBuild(); result = true;
+        }};
+        // @formatter:on
+        // When
+        new JibBuildService(serviceHub).push(Collections.singletonList(getImageConfiguration()), 1, null, false);
+        // Then
+        // @formatter:off
+        new Verifications() {{
+            JibServiceUtil.jibPush(
+                (ImageConfiguration)any, (Credential)any, (File)any, (JibContainerizerConfiguration)any, logger);
+            times = 0;
+        }};
+        // @formatter:on
+    }
+
     private ImageConfiguration getImageConfiguration() {
         return ImageConfiguration.builder()
                 .name("test/testimage:0.0.1")
@@ -34,11 +34,11 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionBuilder;
-import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionListBuilder;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import mockit.Expectations;
 import mockit.Mocked;
 import mockit.Verifications;
+import mockit.VerificationsInOrder;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -109,6 +109,37 @@ public class KubernetesUndeployServiceTest {
     // @formatter:on
   }
 
+  @Test
+  public void undeployWithMultipleThreadsShouldDeleteTiersInReverseApplyOrder(@Mocked File file) throws Exception {
+    // Given
+    final ResourceConfig resourceConfig = ResourceConfig.builder().namespace("default").build();
+    final Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("default").endMetadata().build();
+    final Pod pod = new PodBuilder().withNewMetadata().withName("MrPoddington").endMetadata().build();
+    final Service service = new Service();
+    // @formatter:off
+    new Expectations() {{
+      file.exists(); result = true;
+      file.isFile(); result = true;
+      kubernetesHelper.loadResources(file); result = Arrays.asList(namespace, service, pod);
+      kubernetesHelper.getKind(pod); result = "Pod";
+      kubernetesHelper.getKind(service); result = "Service";
+    }};
+    // @formatter:on
+    // When
+    kubernetesUndeployService.undeploy(4, null, null, resourceConfig, file);
+    // Then
+    // @formatter:off
+    new VerificationsInOrder() {{
+      jKubeServiceHub.getClient().resource(pod).inNamespace("default")
+          .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
+      jKubeServiceHub.getClient().resource(service).inNamespace("default")
+          .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
+      jKubeServiceHub.getClient().resource(namespace).inNamespace("default")
+          .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
+    }};
+    // @formatter:on
+  }
+
   @Test
   public void undeployWithManifestAndCustomResourcesShouldDeleteAllEntities(
       @Mocked ResourceConfig resourceConfig) throws Exception {
@@ -130,7 +161,7 @@ public class KubernetesUndeployServiceTest {
     // @formatter:off
     new Expectations() {{
       kubernetesHelper.loadResources(manifest); result = Arrays.asList(service, customResource);
-      jKubeServiceHub.getClient().apiextensions().v1beta1().customResourceDefinitions().list(); result = new CustomResourceDefinitionListBuilder().withItems(crd).build();
+      jKubeServiceHub.getCustomResourceDefinitionCache().getCrdContext(customResource); result = CustomResourceDefinitionContext.fromCrd(crd);
       kubernetesHelper.getFullyQualifiedApiGroupWithKind((CustomResourceDefinitionContext)any);
       result = crdId;
     }};
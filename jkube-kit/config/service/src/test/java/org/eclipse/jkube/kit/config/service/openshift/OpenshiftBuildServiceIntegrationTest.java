@@ -17,7 +17,10 @@ import com.google.common.collect.ImmutableMap;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.openshift.api.model.Build;
 import io.fabric8.openshift.api.model.BuildBuilder;
@@ -28,9 +31,12 @@ import io.fabric8.openshift.api.model.ImageStream;
 import io.fabric8.openshift.api.model.ImageStreamBuilder;
 import io.fabric8.openshift.api.model.ImageStreamStatusBuilder;
 import io.fabric8.openshift.api.model.NamedTagEventListBuilder;
+import io.fabric8.openshift.client.dsl.internal.build.BuildConfigOperationsImpl;
 import io.fabric8.openshift.client.server.mock.OpenShiftServer;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.jkube.kit.build.api.assembly.ArchiverCustomizer;
 import org.eclipse.jkube.kit.build.api.assembly.JKubeBuildTarArchiver;
+import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.common.RegistryConfig;
 import org.eclipse.jkube.kit.common.util.OpenshiftHelper;
 import org.eclipse.jkube.kit.config.access.ClusterAccess;
@@ -43,10 +49,17 @@ import org.eclipse.jkube.kit.config.resource.OpenshiftBuildConfig;
 import org.eclipse.jkube.kit.config.resource.ResourceConfig;
 import org.eclipse.jkube.kit.config.service.BuildServiceConfig;
 import org.eclipse.jkube.kit.config.service.JKubeServiceException;
+import mockit.Delegate;
 import mockit.Expectations;
+import mockit.Mock;
+import mockit.MockUp;
 import mockit.Mocked;
+import mockit.Verifications;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
 
 import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 import org.junit.Before;
@@ -58,6 +71,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -98,6 +115,8 @@ public class OpenshiftBuildServiceIntegrationTest {
 
     private KitLogger logger;
 
+    private RegistryConfig registryConfig;
+
     private ImageConfiguration image;
 
     private BuildServiceConfig.BuildServiceConfigBuilder defaultConfig;
@@ -113,6 +132,7 @@ public class OpenshiftBuildServiceIntegrationTest {
         baseDir = temporaryFolder.newFolder("openshift-build-service").getAbsolutePath();
         projectName = "myapp";
         logger = new KitLogger.StdoutLogger();
+        registryConfig = RegistryConfig.builder().build();
         FileUtils.deleteDirectory(new File(baseDir, projectName));
         final File dockerFile = new File(baseDir, "Docker.tar");
         FileUtils.touch(dockerFile);
@@ -140,7 +160,11 @@ public class OpenshiftBuildServiceIntegrationTest {
             jKubeServiceHub.getConfiguration().getProject();
             result = jKubeServiceHub.getConfiguration().getProject(); minTimes = 0;
             jKubeServiceHub.getConfiguration().getRegistryConfig();
-            result = RegistryConfig.builder().build();
+            result = new Delegate<RegistryConfig>() {
+                RegistryConfig getRegistryConfig() {
+                    return registryConfig;
+                }
+            };
             minTimes = 0;
         }};
         // @formatter:on
@@ -311,6 +335,181 @@ public class OpenshiftBuildServiceIntegrationTest {
         });
     }
 
+    @Test
+    public void testSuccessfulStreamedBuild() throws Exception {
+        // @formatter:off
+        new Expectations() {{
+            jKubeServiceHub.getDockerServiceHub().getArchiveService().writeDockerBuildArchive(
+                withAny(null), withAny(null), withAny(null), withAny(null));
+            result = new Delegate<Void>() {
+                void writeDockerBuildArchive(ImageConfiguration imageConfig, JKubeConfiguration params,
+                    ArchiverCustomizer customizer, OutputStream outputStream) throws IOException {
+                    outputStream.write("streamed-archive".getBytes(StandardCharsets.UTF_8));
+                    outputStream.close();
+                }
+            };
+            minTimes = 0;
+        }};
+        // @formatter:on
+        expectContinueInMockServer();
+        retryInMockServer(() -> {
+            final BuildServiceConfig config = withBuildServiceConfig(defaultConfig.s2iStreamBuildArchive(true).build());
+            final WebServerEventCollector collector = createMockServer(config, true, 50, false, false);
+
+            new OpenshiftBuildService(jKubeServiceHub).build(image);
+
+            collector.assertEventsRecordedInOrder("build-config-check", "new-build-config", "pushed");
+            assertThat(collector.getBodies()).contains("streamed-archive");
+        });
+        // @formatter:off
+        new Verifications() {{
+            jKubeServiceHub.getDockerServiceHub().getArchiveService().createDockerBuildArchive(
+                withAny(null), withAny(null), withAny(null));
+            times = 0;
+        }};
+        // @formatter:on
+    }
+
+    @Test
+    public void testStreamedBuildWithArchiveFailure() throws Exception {
+        // @formatter:off
+        new Expectations() {{
+            jKubeServiceHub.getDockerServiceHub().getArchiveService().writeDockerBuildArchive(
+                withAny(null), withAny(null), withAny(null), withAny(null));
+            result = new IOException("Disk failure");
+        }};
+        // @formatter:on
+        expectContinueInMockServer();
+        final BuildServiceConfig config = withBuildServiceConfig(defaultConfig.s2iStreamBuildArchive(true).build());
+        createMockServer(config, true, 50, false, false);
+        final OpenshiftBuildService openshiftBuildService = new OpenshiftBuildService(jKubeServiceHub);
+
+        final JKubeServiceException result = assertThrows(JKubeServiceException.class, () ->
+            openshiftBuildService.build(image));
+
+        assertThat(result)
+            .hasMessage("Unable to stream the build archive")
+            .hasRootCauseMessage("Disk failure");
+    }
+
+    @Test
+    public void testStreamedBuildWithUploadFailure() throws Exception {
+        // @formatter:off
+        new Expectations() {{
+            jKubeServiceHub.getDockerServiceHub().getArchiveService().writeDockerBuildArchive(
+                withAny(null), withAny(null), withAny(null), withAny(null));
+            result = new Delegate<Void>() {
+                void writeDockerBuildArchive(ImageConfiguration imageConfig, JKubeConfiguration params,
+                    ArchiverCustomizer customizer, OutputStream outputStream) throws IOException {
+                    // Fails once the upload closes the stream
+                    while (true) {
+                        outputStream.write(new byte[1024]);
+                    }
+                }
+            };
+        }};
+        // @formatter:on
+        new MockUp<BuildConfigOperationsImpl>() {
+            @Mock
+            Build fromInputStream(InputStream inputStream) throws IOException {
+                assertThat(inputStream.read()).isZero();
+                throw new KubernetesClientException("Upload rejected");
+            }
+        };
+        final BuildServiceConfig config = withBuildServiceConfig(defaultConfig.s2iStreamBuildArchive(true).build());
+        createMockServer(config, true, 50, false, false);
+        final OpenshiftBuildService openshiftBuildService = new OpenshiftBuildService(jKubeServiceHub);
+
+        final JKubeServiceException result = assertThrows(JKubeServiceException.class, () ->
+            openshiftBuildService.build(image));
+
+        assertThat(result.getCause())
+            .isInstanceOf(KubernetesClientException.class)
+            .hasMessage("Upload rejected");
+        assertThat(result.getCause().getSuppressed()).hasSize(1);
+        assertThat(result.getCause().getSuppressed()[0])
+            .hasMessage("Unable to write the build archive")
+            .hasRootCauseMessage("Pipe closed");
+    }
+
+    @Test
+    public void testSuccessfulConcurrentBuilds() throws Exception {
+        final ImageConfiguration otherImage = ImageConfiguration.builder()
+            .name("otherapp")
+            .build(BuildConfiguration.builder()
+                .from("otherapp")
+                .build()
+            ).build();
+        retryInMockServer(() -> {
+            final BuildServiceConfig config = withBuildServiceConfig(defaultConfig.s2iBuildThreads(2).build());
+            final WebServerEventCollector collector = createMockServer(config, true, 50, false, false);
+            final WebServerEventCollector otherCollector = createMockServer("otherapp", config, true, 50, false, false);
+            mockServer.expect().withPath("/apis/build.openshift.io/v1/namespaces/test/builds?watch=true")
+                .andUpgradeToWebSocket().open()
+                .waitFor(50)
+                .andEmit(new WatchEvent(new BuildBuilder()
+                    .withNewMetadata().withName("otherapp").withResourceVersion("2").endMetadata()
+                    .withNewStatus().withPhase("Complete").endStatus()
+                    .build(), "MODIFIED"))
+                .done().always();
+
+            new OpenshiftBuildService(jKubeServiceHub).buildAll(Arrays.asList(image, otherImage));
+
+            // Both BuildConfigs are created through the same path, each image may hit the other one's expectation
+            collector.assertEventsRecordedInOrder("build-config-check", "pushed");
+            otherCollector.assertEventsRecordedInOrder("build-config-check", "pushed");
+            assertTrue(containsRequest("builds?watch=true"));
+        });
+    }
+
+    @Test
+    public void testSuccessfulConcurrentBuildsWithRegistryAuthAndNoPullSecret() throws Exception {
+        registryConfig = RegistryConfig.builder()
+            .registry("quay.io")
+            .authConfig(ImmutableMap.of("username", "user", "password", "pass"))
+            .passwordDecryptionMethod(password -> password)
+            .build();
+        final ImageConfiguration otherImage = ImageConfiguration.builder()
+            .name("otherapp")
+            .build(BuildConfiguration.builder()
+                .from("otherapp")
+                .build()
+            ).build();
+        final BuildServiceConfig config = withBuildServiceConfig(defaultConfigSecret.s2iBuildThreads(2).build());
+        final WebServerEventCollector collector = createMockServer(config, true, 50, false, false);
+        final WebServerEventCollector otherCollector = createMockServer("otherapp", config, true, 50, false, false);
+        final WebServerEventCollector secretCollector = new WebServerEventCollector();
+        final Secret secret = new SecretBuilder()
+            .withNewMetadata().withName("pullsecret-fabric8").endMetadata()
+            .withType("kubernetes.io/dockerconfigjson")
+            .addToData(".dockerconfigjson", "e30=")
+            .build();
+        mockServer.expect().get().withPath("/api/v1/namespaces/test/secrets/pullsecret-fabric8")
+            .andReturn(404, "").once();
+        mockServer.expect().get().withPath("/api/v1/namespaces/test/secrets/pullsecret-fabric8")
+            .andReturn(200, secret).always();
+        mockServer.expect().post().withPath("/api/v1/namespaces/test/secrets")
+            .andReply(secretCollector.record("new-secret").andReturn(201, secret)).once();
+        mockServer.expect().post().withPath("/api/v1/namespaces/test/secrets")
+            .andReply(secretCollector.record("conflicting-secret").andReturn(409, "")).always();
+        mockServer.expect().withPath("/apis/build.openshift.io/v1/namespaces/test/builds?watch=true")
+            .andUpgradeToWebSocket().open()
+            .waitFor(50)
+            .andEmit(new WatchEvent(new BuildBuilder()
+                .withNewMetadata().withName("otherapp").withResourceVersion("2").endMetadata()
+                .withNewStatus().withPhase("Complete").endStatus()
+                .build(), "MODIFIED"))
+            .done().always();
+
+        new OpenshiftBuildService(jKubeServiceHub).buildAll(Arrays.asList(image, otherImage));
+
+        collector.assertEventsRecordedInOrder("build-config-check", "pushed");
+        otherCollector.assertEventsRecordedInOrder("build-config-check", "pushed");
+        secretCollector.assertEventsRecorded("new-secret");
+        secretCollector.assertEventsNotRecorded("conflicting-secret");
+        assertThat(secretCollector.getBodies()).hasSize(1);
+    }
+
     @Test
     public void testFailedBuild() {
         withBuildServiceConfig(defaultConfig.build());
@@ -402,6 +601,16 @@ public class OpenshiftBuildServiceIntegrationTest {
         });
     }
 
+    private static void expectContinueInMockServer() {
+        // The binary build upload sends "Expect: 100-continue" and waits for it before streaming a non-empty body
+        new MockUp<Dispatcher>() {
+            @Mock
+            MockResponse peek() {
+                return new MockResponse().setSocketPolicy(SocketPolicy.EXPECT_CONTINUE);
+            }
+        };
+    }
+
     @FunctionalInterface
     private interface MockServerRetryable {
         void run() throws JKubeServiceException, IOException;
@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.api.model.RouteBuilder;
 import io.fabric8.openshift.client.server.mock.OpenShiftServer;
@@ -34,6 +36,8 @@ import org.junit.Test;
 import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static junit.framework.TestCase.assertTrue;
 
 public class PatchServiceTest {
@@ -155,4 +159,49 @@ public class PatchServiceTest {
         patchService.compareAndPatchEntity("test", newResource, oldResource);
     }
 
+    @Test
+    public void testServerSideApply() {
+        ConfigMap configMap = new ConfigMapBuilder()
+                .withNewMetadata().withName("configmap1").endMetadata()
+                .addToData(Collections.singletonMap("foo", "bar"))
+                .build();
+        WebServerEventCollector collector = new WebServerEventCollector();
+        mockServer.expect().patch()
+                .withPath("/api/v1/namespaces/test/configmaps/configmap1?fieldManager=jkube&force=true")
+                .andReply(collector.record("apply-configmap").andReturn(200, configMap))
+                .once();
+
+        ConfigMap appliedConfigMap = patchService.serverSideApply("test", configMap);
+
+        collector.assertEventsRecorded("apply-configmap");
+        assertTrue(collector.getBodies().get(0).contains("\"foo\":\"bar\""));
+        assertTrue(UserConfigurationCompare.configEqual(appliedConfigMap, configMap));
+    }
+
+    @Test
+    public void testServerSideApplyUnsupported() {
+        ConfigMap configMap = new ConfigMapBuilder()
+                .withNewMetadata().withName("configmap1").endMetadata()
+                .build();
+        mockServer.expect().patch()
+                .withPath("/api/v1/namespaces/test/configmaps/configmap1?fieldManager=jkube&force=true")
+                .andReturn(415, "")
+                .once();
+
+        KubernetesClientException result = assertThrows(KubernetesClientException.class,
+                () -> patchService.serverSideApply("test", configMap));
+
+        assertEquals(415, result.getCode());
+    }
+
+    @Test
+    public void testServerSideApplySupportedWithHttpClientAwareClient() {
+        assertTrue(patchService.isServerSideApplySupported());
+    }
+
+    @Test
+    public void testServerSideApplyNotSupportedWithOtherClients(@Mocked KubernetesClient kubernetesClient) {
+        assertFalse(new PatchService(kubernetesClient, log).isServerSideApplySupported());
+    }
+
 }
@@ -15,7 +15,11 @@ package org.eclipse.jkube.kit.enricher.api.util;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.UnknownHostException;
@@ -32,7 +36,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.regex.Matcher;
+import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.client.utils.Serialization;
 import org.eclipse.jkube.kit.common.GenericCustomResource;
@@ -47,7 +56,6 @@ import org.eclipse.jkube.kit.config.resource.MappingConfig;
 import org.eclipse.jkube.kit.config.resource.PlatformMode;
 import org.eclipse.jkube.kit.config.resource.ResourceVersioning;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -111,6 +119,14 @@ public class KubernetesResourceUtil {
 
     private static final Set<Class<?>> SIMPLE_FIELD_TYPES = new HashSet<>();
 
+    private static final Map<List<Class<?>>, List<SimpleFieldMerger>> SIMPLE_FIELD_MERGE_PLANS = new ConcurrentHashMap<>();
+
+    // Mappers are thread-safe once configured, share them instead of creating one per fragment
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+    private static final TypeReference<HashMap<String, Object>> FRAGMENT_TYPE_REFERENCE =
+        new TypeReference<HashMap<String, Object>>() {};
+
     public static final String CONTAINER_NAME_REGEX = "^[a-z0-9]([-a-z0-9]*[a-z0-9])?$";
 
     protected static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ssX";
@@ -148,7 +164,9 @@ public class KubernetesResourceUtil {
                                                                   String defaultName,
                                                                   File[] resourceFiles) throws IOException {
         KubernetesListBuilder builder = new KubernetesListBuilder();
-        if (resourceFiles != null) {
+        if (resourceFiles != null && resourceFiles.length > 1) {
+            builder.addAllToItems(convertFragmentsToHasMetadata(platformMode, apiVersions, defaultName, resourceFiles));
+        } else if (resourceFiles != null) {
             for (File file : resourceFiles) {
                 builder.addToItems(convertFragmentToHasMetadata(platformMode, apiVersions, defaultName, file));
             }
@@ -156,6 +174,50 @@ public class KubernetesResourceUtil {
         return builder;
     }
 
+    /**
+     * Reads and converts the provided fragments in parallel, the resulting list preserves the order of the
+     * provided files.
+     */
+    private static List<HasMetadata> convertFragmentsToHasMetadata(
+        PlatformMode platformMode, ResourceVersioning apiVersions, String defaultName, File[] resourceFiles) throws IOException {
+
+        // Dedicated pool bounded to the number of fragments, its workers are given the caller's context class loader
+        // (the common pool's and the default factory's workers don't inherit it)
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final ForkJoinPool pool = new ForkJoinPool(
+            Math.min(resourceFiles.length, Runtime.getRuntime().availableProcessors()),
+            forkJoinPool -> {
+                final ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                worker.setContextClassLoader(contextClassLoader);
+                return worker;
+            },
+            null, false);
+        try {
+            return pool.submit(() -> Arrays.stream(resourceFiles).parallel()
+                .map(file -> {
+                    try {
+                        return convertFragmentToHasMetadata(platformMode, apiVersions, defaultName, file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .collect(Collectors.toList())
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading resource fragments");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException("Failed to read resource fragments", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     private static HasMetadata convertFragmentToHasMetadata(PlatformMode platformMode, ResourceVersioning apiVersions, String defaultName, File file) throws IOException {
         if(isCustomResourceFragment(file.getName())) {
             return getCustomResource(file);
@@ -192,9 +254,8 @@ public class KubernetesResourceUtil {
     public static HasMetadata getResource(PlatformMode platformMode, ResourceVersioning apiVersions,
                                           File file, String appName) throws IOException {
         Map<String,Object> fragment = readAndEnrichFragment(platformMode, apiVersions, file, appName);
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            return mapper.convertValue(fragment, HasMetadata.class);
+            return JSON_MAPPER.convertValue(fragment, HasMetadata.class);
         } catch (ClassCastException exp) {
             throw new IllegalArgumentException(String.format("Resource fragment %s has an invalid syntax (%s)", file.getPath(), exp.getMessage()));
         }
@@ -374,10 +435,9 @@ public class KubernetesResourceUtil {
     }
 
     private static Map<String,Object> readFragment(File file, String ext) throws IOException {
-        ObjectMapper mapper = new ObjectMapper("json".equals(ext) ? new JsonFactory() : new YAMLFactory());
-        TypeReference<HashMap<String,Object>> typeRef = new TypeReference<HashMap<String,Object>>() {};
+        ObjectMapper mapper = "json".equals(ext) ? JSON_MAPPER : YAML_MAPPER;
         try {
-            Map<String, Object> ret = mapper.readValue(file, typeRef);
+            Map<String, Object> ret = mapper.readValue(file, FRAGMENT_TYPE_REFERENCE);
             return ret != null ? ret : new HashMap<>();
         } catch (JsonProcessingException e) {
             throw new JsonMappingException(String.format("[%s] %s", file, e.getMessage()), e.getLocation(), e);
@@ -574,8 +634,17 @@ public class KubernetesResourceUtil {
      * @param defaultValues Object of default values
      */
     public static void mergeSimpleFields(Object targetValues, Object defaultValues) {
-        Class<?> tc = targetValues.getClass();
-        Class<?> sc = defaultValues.getClass();
+        final List<SimpleFieldMerger> mergePlan = SIMPLE_FIELD_MERGE_PLANS.computeIfAbsent(
+            Arrays.asList(targetValues.getClass(), defaultValues.getClass()),
+            k -> createSimpleFieldMergePlan(k.get(0), k.get(1)));
+        for (SimpleFieldMerger merger : mergePlan) {
+            merger.merge(targetValues, defaultValues);
+        }
+    }
+
+    private static List<SimpleFieldMerger> createSimpleFieldMergePlan(Class<?> tc, Class<?> sc) {
+        final List<SimpleFieldMerger> mergePlan = new ArrayList<>();
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
         for (Method targetGetMethod : tc.getMethods()) {
             if (!targetGetMethod.getName().startsWith("get")) {
                 continue;
@@ -606,16 +675,43 @@ public class KubernetesResourceUtil {
             }
 
             try {
-                if (targetGetMethod.invoke(targetValues) == null) {
-                    withMethod.invoke(targetValues, sourceGetMethod.invoke(defaultValues));
-                }
+                mergePlan.add(new SimpleFieldMerger(
+                    lookup.unreflect(targetGetMethod), lookup.unreflect(withMethod), lookup.unreflect(sourceGetMethod)));
             } catch (IllegalAccessException e) {
                 throw new RuntimeException(e);
-            } catch (InvocationTargetException e) {
-                throw new RuntimeException(e.getCause());
             }
         }
+        return Collections.unmodifiableList(mergePlan);
     }
+
+    /**
+     * Copies a single simple field from a source object to a target object if not already set in the target.
+     */
+    private static final class SimpleFieldMerger {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final MethodHandle targetGetter;
+        private final MethodHandle targetSetter;
+        private final MethodHandle sourceGetter;
+
+        private SimpleFieldMerger(MethodHandle targetGetter, MethodHandle targetSetter, MethodHandle sourceGetter) {
+            this.targetGetter = targetGetter.asType(GETTER_TYPE);
+            this.targetSetter = targetSetter.asType(SETTER_TYPE);
+            this.sourceGetter = sourceGetter.asType(GETTER_TYPE);
+        }
+
+        private void merge(Object targetValues, Object defaultValues) {
+            try {
+                if ((Object) targetGetter.invokeExact(targetValues) == null) {
+                    targetSetter.invokeExact(targetValues, (Object) sourceGetter.invokeExact(defaultValues));
+                }
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     public static String mergePodSpec(PodSpecBuilder builder, PodSpec defaultPodSpec, String defaultName) {
         return mergePodSpec(builder, defaultPodSpec, defaultName, false);
     }
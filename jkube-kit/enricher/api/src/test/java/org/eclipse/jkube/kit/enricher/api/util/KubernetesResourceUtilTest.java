@@ -13,6 +13,8 @@
  */
 package org.eclipse.jkube.kit.enricher.api.util;
 
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
@@ -28,13 +30,17 @@ import org.eclipse.jkube.kit.config.resource.ResourceVersioning;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -58,6 +64,9 @@ public class KubernetesResourceUtilTest {
 
     private static File jkubeDir;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @BeforeClass
     public static void initPath() throws UnsupportedEncodingException {
         ClassLoader classLoader = KubernetesResourceUtil.class.getClassLoader();
@@ -207,6 +216,43 @@ public class KubernetesResourceUtilTest {
         }
     }
 
+    @Test
+    public void readResourceFragmentsFrom_withMultipleFragments_shouldPreserveFileOrder() throws IOException {
+        // Given
+        final File[] resourceFiles = new File[50];
+        for (int it = 0; it < resourceFiles.length; it++) {
+            resourceFiles[it] = temporaryFolder.newFile(String.format("cm%02d-configmap.yml", it));
+            Files.write(resourceFiles[it].toPath(), String.format("data:%n  index: \"%d\"%n", it).getBytes(StandardCharsets.UTF_8));
+        }
+        // When
+        final KubernetesList result = KubernetesResourceUtil.readResourceFragmentsFrom(
+            PlatformMode.kubernetes, KubernetesResourceUtil.DEFAULT_RESOURCE_VERSIONING, "app", resourceFiles).build();
+        // Then
+        assertThat(result.getItems()).hasSize(50);
+        for (int it = 0; it < resourceFiles.length; it++) {
+            assertThat(result.getItems().get(it))
+                .hasFieldOrPropertyWithValue("kind", "ConfigMap")
+                .hasFieldOrPropertyWithValue("metadata.name", String.format("cm%02d", it))
+                .hasFieldOrPropertyWithValue("data.index", String.valueOf(it));
+        }
+    }
+
+    @Test
+    public void readResourceFragmentsFrom_withMultipleFragmentsAndInvalidFragment_shouldThrowException() throws IOException {
+        // Given
+        final File valid = temporaryFolder.newFile("valid-configmap.yml");
+        Files.write(valid.toPath(), "data: {}".getBytes(StandardCharsets.UTF_8));
+        final File invalid = temporaryFolder.newFile("invalid-configmap.yml");
+        Files.write(invalid.toPath(), "data: [".getBytes(StandardCharsets.UTF_8));
+        final File[] resourceFiles = new File[] { valid, invalid };
+        final ResourceVersioning versioning = KubernetesResourceUtil.DEFAULT_RESOURCE_VERSIONING;
+        // When
+        final IOException result = Assert.assertThrows(IOException.class, () ->
+            KubernetesResourceUtil.readResourceFragmentsFrom(PlatformMode.kubernetes, versioning, "app", resourceFiles));
+        // Then
+        assertThat(result).hasMessageContaining("invalid-configmap.yml");
+    }
+
     @Test
     public void testMergePodSpecWithFragmentWhenFragmentHasContainerNameWithSidecarDisabled() {
         // Given
@@ -312,6 +358,29 @@ public class KubernetesResourceUtilTest {
       .hasFieldOrPropertyWithValue("spec.podSelector.matchLabels.role", "db");
     }
 
+    @Test
+    public void mergeSimpleFields_withBuilderAndDefaults_shouldOnlySetMissingFields() {
+        // Given
+        final ContainerBuilder first = new ContainerBuilder().withName("first");
+        final ContainerBuilder second = new ContainerBuilder().withImagePullPolicy("Always");
+        final Container defaults = new ContainerBuilder()
+            .withName("default-name").withImage("default-image").withImagePullPolicy("IfNotPresent").build();
+
+        // When
+        KubernetesResourceUtil.mergeSimpleFields(first, defaults);
+        KubernetesResourceUtil.mergeSimpleFields(second, defaults);
+
+        // Then
+        assertThat(first.build())
+            .hasFieldOrPropertyWithValue("name", "first")
+            .hasFieldOrPropertyWithValue("image", "default-image")
+            .hasFieldOrPropertyWithValue("imagePullPolicy", "IfNotPresent");
+        assertThat(second.build())
+            .hasFieldOrPropertyWithValue("name", "default-name")
+            .hasFieldOrPropertyWithValue("image", "default-image")
+            .hasFieldOrPropertyWithValue("imagePullPolicy", "Always");
+    }
+
     @Test
     public void testIsExposedService() {
         assertTrue(KubernetesResourceUtil.isExposedService(new ObjectMetaBuilder().addToLabels("expose", "true").build()));
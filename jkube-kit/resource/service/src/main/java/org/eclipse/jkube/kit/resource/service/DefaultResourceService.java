@@ -40,7 +40,6 @@ import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 
 import static org.eclipse.jkube.kit.common.util.KubernetesHelper.listResourceFragments;
-import static org.eclipse.jkube.kit.resource.service.TemplateUtil.interpolateTemplateVariables;
 import static org.eclipse.jkube.kit.resource.service.WriteUtil.writeResourcesIndividualAndComposite;
 
 public class DefaultResourceService implements ResourceService {
@@ -68,13 +67,9 @@ public class DefaultResourceService implements ResourceService {
     // write kubernetes.yml / openshift.yml
     File resourceFileBase = new File(targetDir, classifier.getValue());
 
-    File file = writeResourcesIndividualAndComposite(resources, resourceFileBase, resourceFileType, log);
-    // Resolve template placeholders
-    if (resourceServiceConfig.isInterpolateTemplateParameters()) {
-      interpolateTemplateVariables(resources, file);
-    }
-
-    return file;
+    // Template placeholders are resolved while writing
+    return writeResourcesIndividualAndComposite(resources, resourceFileBase, resourceFileType,
+        resourceServiceConfig.isInterpolateTemplateParameters(), log);
   }
 
   private KubernetesListBuilder generateAppResources(PlatformMode platformMode, EnricherManager enricherManager, KitLogger log)
@@ -13,9 +13,6 @@
  */
 package org.eclipse.jkube.kit.resource.service;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.charset.Charset;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,7 +20,6 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.openshift.api.model.Parameter;
 import io.fabric8.openshift.api.model.Template;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 class TemplateUtil {
@@ -47,25 +43,11 @@ class TemplateUtil {
     return null;
   }
 
-  static void interpolateTemplateVariables(KubernetesList resources, File kubernetesYaml) throws IOException {
-    final List<Parameter> parameters = listAllParameters(resources);
-    if (parameters.isEmpty()) {
-      return;
-    }
-    String kubernetesYamlContent;
-    try {
-      kubernetesYamlContent = FileUtils.readFileToString(kubernetesYaml, Charset.defaultCharset());
-    } catch (IOException e) {
-      throw new IOException("Failed to load " + kubernetesYaml + " for template variable replacement", e);
-    }
-    final String interpolatedKubernetesYamlContent = interpolateTemplateVariables(parameters, kubernetesYamlContent);
-    if (!kubernetesYamlContent.equals(interpolatedKubernetesYamlContent)) {
-      try {
-        FileUtils.writeStringToFile(kubernetesYaml, interpolatedKubernetesYamlContent, Charset.defaultCharset());
-      } catch (IOException e) {
-        throw new IOException("Failed to save " + kubernetesYaml + " after replacing template expressions", e);
-      }
-    }
+  /**
+   * Returns the provided serialized resources with the placeholders of the Template parameters with a value replaced
+   */
+  static String interpolateTemplateVariables(KubernetesList resources, String text) {
+    return interpolateTemplateVariables(listAllParameters(resources), text);
   }
 
   private static String interpolateTemplateVariables(List<Parameter> parameters, String text) {
@@ -16,26 +16,48 @@ package org.eclipse.jkube.kit.resource.service;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.openshift.api.model.Template;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.ResourceFileType;
+import org.eclipse.jkube.kit.common.util.FileUtil;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.common.util.ResourceUtil;
 import org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.eclipse.jkube.kit.resource.service.TemplateUtil.getSingletonTemplate;
+import static org.eclipse.jkube.kit.resource.service.TemplateUtil.interpolateTemplateVariables;
 
 class WriteUtil {
 
+  private static final String[] RESOURCE_FILE_EXTENSIONS = { "yml", "yaml", "json" };
+
   private WriteUtil(){ }
 
   static File writeResourcesIndividualAndComposite(
       KubernetesList resources, File resourceFileBase, ResourceFileType resourceFileType, KitLogger log) throws IOException {
+    return writeResourcesIndividualAndComposite(resources, resourceFileBase, resourceFileType, false, log);
+  }
+
+  static File writeResourcesIndividualAndComposite(
+      KubernetesList resources, File resourceFileBase, ResourceFileType resourceFileType,
+      boolean interpolateTemplateParameters, KitLogger log) throws IOException {
 
     // entity is object which will be sent to writeResource for openshift.yml
     // if generateRoute is false, this will be set to resources with new list
@@ -50,16 +72,27 @@ class WriteUtil {
       entity = template;
     }
 
-    File file = writeResource(resourceFileBase, entity, resourceFileType);
+    final WriteCounts counts = new WriteCounts();
+    File file;
+    if (interpolateTemplateParameters) {
+      file = writeInterpolatedResource(resources, resourceFileBase, entity, resourceFileType, counts);
+    } else {
+      file = writeResource(resourceFileBase, entity, resourceFileType, counts);
+    }
 
     // write separate files, one for each resource item
     // resources passed to writeIndividualResources is also new one.
-    writeIndividualResources(resources, resourceFileBase, resourceFileType, log);
+    writeIndividualResources(resources, resourceFileBase, resourceFileType, log, counts);
+    log.info("Resource files: %d written, %d unchanged, %d removed",
+        counts.written.get(), counts.unchanged.get(), counts.removed.get());
     return file;
   }
 
   private static void writeIndividualResources(
-      KubernetesList resources, File targetDir, ResourceFileType resourceFileType, KitLogger log) throws IOException {
+      KubernetesList resources, File targetDir, ResourceFileType resourceFileType, KitLogger log, WriteCounts counts)
+      throws IOException {
+    // File names are resolved sequentially so that collisions are always resolved in the same order
+    final Map<File, HasMetadata> itemTargets = new LinkedHashMap<>();
     final Map<String, Integer> generatedFiles = new HashMap<>();
     for (HasMetadata item : resources.getItems()) {
       String name = KubernetesHelper.getName(item);
@@ -72,19 +105,114 @@ class WriteUtil {
       if (fileCount > 0) {
         fileName = KubernetesResourceUtil.getNameWithSuffix(name + "-" + fileCount, item.getKind());
       }
+      itemTargets.put(new File(targetDir, fileName), item);
+    }
+    // Here we are writing individual file for all the resources.
+    if (itemTargets.size() > 1) {
+      writeResourcesConcurrently(targetDir, itemTargets, resourceFileType, counts);
+    } else {
+      for (Map.Entry<File, HasMetadata> itemTarget : itemTargets.entrySet()) {
+        writeResource(itemTarget.getKey(), itemTarget.getValue(), resourceFileType, counts);
+      }
+    }
+    final Set<File> resourceFiles = new HashSet<>();
+    for (File itemTarget : itemTargets.keySet()) {
+      resourceFiles.add(ResourceUtil.resolveResourceFile(itemTarget, resourceFileType).getAbsoluteFile());
+    }
+    removeStaleResources(targetDir, resourceFiles, counts);
+  }
+
+  private static void writeResourcesConcurrently(
+      File targetDir, Map<File, HasMetadata> itemTargets, ResourceFileType resourceFileType, WriteCounts counts)
+      throws IOException {
+    // Created upfront so that the writers don't race to create it
+    FileUtil.createDirectory(targetDir);
+    final ForkJoinPool pool = new ForkJoinPool(Math.min(itemTargets.size(), Runtime.getRuntime().availableProcessors()));
+    try {
+      pool.submit(() -> itemTargets.entrySet().parallelStream().forEach(itemTarget -> {
+        try {
+          writeResource(itemTarget.getKey(), itemTarget.getValue(), resourceFileType, counts);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      })).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while writing resources");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      } else if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException("Failed to write resources", e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
 
-      // Here we are writing individual file for all the resources.
-      File itemTarget = new File(targetDir, fileName);
-      writeResource(itemTarget, item, resourceFileType);
+  // Individual resource files from previous executions that are no longer generated
+  private static void removeStaleResources(File targetDir, Set<File> resourceFiles, WriteCounts counts) throws IOException {
+    final File[] existingFiles = targetDir.listFiles(f ->
+        f.isFile() && FilenameUtils.isExtension(f.getName(), RESOURCE_FILE_EXTENSIONS));
+    if (existingFiles == null) {
+      return;
+    }
+    for (File existingFile : existingFiles) {
+      if (!resourceFiles.contains(existingFile.getAbsoluteFile())) {
+        try {
+          Files.delete(existingFile.toPath());
+        } catch (IOException e) {
+          throw new IOException("Failed to remove stale resource " + existingFile + ".", e);
+        }
+        counts.removed.incrementAndGet();
+      }
     }
   }
 
   static File writeResource(File resourceFileBase, Object entity, ResourceFileType resourceFileType)
       throws IOException {
+    return writeResource(resourceFileBase, entity, resourceFileType, new WriteCounts());
+  }
+
+  private static File writeResource(
+      File resourceFileBase, Object entity, ResourceFileType resourceFileType, WriteCounts counts) throws IOException {
     try {
+      // Files with the same content are not touched to preserve their timestamps
+      final File resourceFile = ResourceUtil.resolveResourceFile(resourceFileBase, resourceFileType);
+      if (ResourceUtil.hasSameContent(resourceFile, entity, resourceFileType)) {
+        counts.unchanged.incrementAndGet();
+        return resourceFile;
+      }
+      counts.written.incrementAndGet();
       return ResourceUtil.save(resourceFileBase, entity, resourceFileType);
     } catch (IOException e) {
       throw new IOException("Failed to write resource to " + resourceFileBase + ".", e);
     }
   }
+
+  // Template placeholders are resolved before comparing so that unchanged parameterized resources aren't rewritten
+  private static File writeInterpolatedResource(
+      KubernetesList resources, File resourceFileBase, Object entity, ResourceFileType resourceFileType, WriteCounts counts)
+      throws IOException {
+    try {
+      final File resourceFile = ResourceUtil.resolveResourceFile(resourceFileBase, resourceFileType);
+      final String content = interpolateTemplateVariables(resources, ResourceUtil.serializeAsString(entity, resourceFileType));
+      if (resourceFile.isFile() && content.equals(FileUtils.readFileToString(resourceFile, StandardCharsets.UTF_8))) {
+        counts.unchanged.incrementAndGet();
+        return resourceFile;
+      }
+      counts.written.incrementAndGet();
+      FileUtils.writeStringToFile(resourceFile, content, StandardCharsets.UTF_8);
+      return resourceFile;
+    } catch (IOException e) {
+      throw new IOException("Failed to write resource to " + resourceFileBase + ".", e);
+    }
+  }
+
+  private static final class WriteCounts {
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+    private final AtomicInteger removed = new AtomicInteger();
+  }
 }
@@ -15,6 +15,8 @@ package org.eclipse.jkube.kit.resource.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.ResourceFileType;
@@ -24,7 +26,11 @@ import org.eclipse.jkube.kit.config.resource.ResourceConfig;
 import org.eclipse.jkube.kit.config.service.EnricherManager;
 import org.eclipse.jkube.kit.config.service.ResourceServiceConfig;
 
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.openshift.api.model.ParameterBuilder;
+import io.fabric8.openshift.api.model.TemplateBuilder;
 import mockit.Mocked;
 import mockit.Verifications;
 import org.junit.Before;
@@ -76,18 +82,45 @@ public class DefaultResourceServiceTest {
 
   @SuppressWarnings("AccessStaticViaInstance")
   @Test
-  public void writeResources(@Mocked WriteUtil writeUtil, @Mocked TemplateUtil templateUtil) throws IOException {
+  public void writeResources(@Mocked WriteUtil writeUtil) throws IOException {
     // When
     defaultResourceService.writeResources(null, ResourceClassifier.KUBERNETES, kitLogger);
     // Then
     // @formatter:off
     new Verifications() {{
       writeUtil.writeResourcesIndividualAndComposite(
-          null, new File(targetDir, "kubernetes"), ResourceFileType.yaml, kitLogger);
-      times = 1;
-      templateUtil.interpolateTemplateVariables(null, (File)any);
+          null, new File(targetDir, "kubernetes"), ResourceFileType.yaml, true, kitLogger);
       times = 1;
     }};
     // @formatter:on
   }
+
+  @Test
+  public void writeResources_withParameterizedTemplateWrittenTwice_shouldNotRewriteIt() throws IOException {
+    // Given
+    final KubernetesList resources = new KubernetesListBuilder().addToItems(new TemplateBuilder()
+        .withNewMetadata().withName("template").endMetadata()
+        .addToParameters(new ParameterBuilder().withName("IMAGE").withValue("example/image:1.0").build())
+        .addToObjects(new ConfigMapBuilder()
+            .withNewMetadata().withName("cm").endMetadata()
+            .addToData("image", "${IMAGE}")
+            .build())
+        .build()).build();
+    final File composite = defaultResourceService.writeResources(resources, ResourceClassifier.OPENSHIFT, kitLogger);
+    assertThat(composite.setLastModified(0L)).isTrue();
+    // When
+    final File result = defaultResourceService.writeResources(resources, ResourceClassifier.OPENSHIFT, kitLogger);
+    // Then
+    assertThat(result).isEqualTo(composite);
+    assertThat(result.lastModified()).isZero();
+    assertThat(new String(Files.readAllBytes(result.toPath()), StandardCharsets.UTF_8))
+        .contains("example/image:1.0")
+        .doesNotContain("${IMAGE}");
+    // @formatter:off
+    new Verifications() {{
+      kitLogger.info("Resource files: %d written, %d unchanged, %d removed", 2, 0, 0); times = 1;
+      kitLogger.info("Resource files: %d written, %d unchanged, %d removed", 0, 2, 0); times = 1;
+    }};
+    // @formatter:on
+  }
 }
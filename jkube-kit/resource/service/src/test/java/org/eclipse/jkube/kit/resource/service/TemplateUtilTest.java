@@ -13,33 +13,19 @@
  */
 package org.eclipse.jkube.kit.resource.service;
 
-import java.io.IOException;
-import java.nio.charset.Charset;
-
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.openshift.api.model.ParameterBuilder;
 import io.fabric8.openshift.api.model.Template;
 import io.fabric8.openshift.api.model.TemplateBuilder;
-import mockit.Expectations;
-import mockit.Mocked;
-import mockit.Verifications;
-import org.apache.commons.io.FileUtils;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jkube.kit.resource.service.TemplateUtil.getSingletonTemplate;
 import static org.eclipse.jkube.kit.resource.service.TemplateUtil.interpolateTemplateVariables;
-import static org.junit.Assert.assertThrows;
-import static org.junit.Assert.fail;
 
-@SuppressWarnings({"AccessStaticViaInstance", "ConstantConditions"})
 public class TemplateUtilTest {
 
-  @SuppressWarnings("unused")
-  @Mocked
-  private FileUtils fileUtils;
-
   private KubernetesListBuilder klb;
 
   @Before
@@ -70,98 +56,37 @@ public class TemplateUtilTest {
   }
 
   @Test
-  public void interpolateTemplateVariablesWithNoParametersShouldDoNothing() throws IOException {
+  public void interpolateTemplateVariablesWithNoParametersShouldDoNothing() {
     // When
-    interpolateTemplateVariables(klb.build(), null);
+    final String result = interpolateTemplateVariables(klb.build(), "No parameters: ${param1}");
     // Then
-    verifyWriteStringToFile(0, null);
+    assertThat(result).isEqualTo("No parameters: ${param1}");
   }
 
   @Test
-  public void interpolateTemplateVariablesWithParametersAndNoPlaceholdersShouldDoNothing() throws IOException {
+  public void interpolateTemplateVariablesWithParametersAndNoPlaceholdersShouldDoNothing() {
     // Given
     klb.addToItems(new TemplateBuilder()
         .addToParameters(new ParameterBuilder().withName("param1").withValue("value1").build())
         .build());
-    mockReadFileToString("No parameters here");
     // When
-    interpolateTemplateVariables(klb.build(), null);
+    final String result = interpolateTemplateVariables(klb.build(), "No parameters here");
     // Then
-    verifyWriteStringToFile(0, null);
+    assertThat(result).isEqualTo("No parameters here");
   }
 
   @Test
-  public void interpolateTemplateVariablesWithParametersAndPlaceholdersShouldReplace() throws IOException {
+  public void interpolateTemplateVariablesWithParametersAndPlaceholdersShouldReplace() {
     // Given
     klb.addToItems(new TemplateBuilder()
-        .addToParameters(new ParameterBuilder().withName("param1").withValue("value1").build())
+        .addToParameters(
+            new ParameterBuilder().withName("param1").withValue("value1").build(),
+            new ParameterBuilder().withName("blank").withValue(" ").build())
         .build());
-    mockReadFileToString("One parameter: ${param1}, and non-existent ${oops}");
     // When
-    interpolateTemplateVariables(klb.build(), null);
+    final String result = interpolateTemplateVariables(klb.build(),
+        "One parameter: ${param1}, a blank one ${blank}, and non-existent ${oops}");
     // Then
-    verifyWriteStringToFile(1, "One parameter: value1, and non-existent ${oops}");
-  }
-
-  @Test
-  public void interpolateTemplateVariablesWithReadFileException() throws IOException {
-    // Given
-    klb.addToItems(new TemplateBuilder()
-        .addToParameters(new ParameterBuilder().withName("param1").withValue("value1").build())
-        .build());
-    mockReadFileToString(new IOException());
-    // When
-    final IOException result = assertThrows(IOException.class, () -> {
-      interpolateTemplateVariables(klb.build(), null);
-      fail();
-    });
-    // Then
-    assertThat(result)
-        .isNotNull()
-        .hasMessage("Failed to load null for template variable replacement");
-  }
-
-  @Test
-  public void interpolateTemplateVariablesWithWriteFileException() throws IOException {
-    // Given
-    klb.addToItems(new TemplateBuilder()
-        .addToParameters(new ParameterBuilder().withName("param1").withValue("value1").build())
-        .build());
-    mockReadFileToString("One parameter: ${param1}, and non-existent ${oops}");
-    // @formatter:off
-    new Expectations() {{
-      fileUtils.writeStringToFile(null, anyString, Charset.defaultCharset());
-      result = new IOException();
-    }};
-    // @formatter:on
-    // When
-    final IOException result = assertThrows(IOException.class, () -> {
-      interpolateTemplateVariables(klb.build(), null);
-      fail();
-    });
-    // Then
-    assertThat(result)
-        .isNotNull()
-        .hasMessage("Failed to save null after replacing template expressions");
-  }
-
-  private void mockReadFileToString(Object readString) throws IOException {
-    // @formatter:off
-    new Expectations() {{
-      fileUtils.readFileToString(null, Charset.defaultCharset()); result = readString;
-    }};
-    // @formatter:on
-  }
-
-  private void verifyWriteStringToFile(int numTimes, String expectedString) throws IOException {
-    // @formatter:off
-    new Verifications() {{
-      String s;
-      fileUtils.writeStringToFile(null, s = withCapture(), Charset.defaultCharset()); times = numTimes;
-      if (numTimes > 0) {
-        assertThat(s).isEqualTo(expectedString);
-      }
-    }};
-    // @formatter:on
+    assertThat(result).isEqualTo("One parameter: value1, a blank one ${blank}, and non-existent ${oops}");
   }
 }
@@ -19,11 +19,13 @@ import java.io.IOException;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import org.eclipse.jkube.kit.common.GenericCustomResource;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.ResourceFileType;
 import org.eclipse.jkube.kit.common.util.ResourceUtil;
 
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import mockit.Delegate;
 import mockit.Expectations;
 import mockit.Mocked;
 import mockit.Verifications;
@@ -55,6 +57,18 @@ public class WriteUtilTest {
   public void initGlobalVariables() throws IOException {
     klb = new KubernetesListBuilder();
     resourceFileBase = temporaryFolder.newFolder();
+    // @formatter:off
+    new Expectations() {{
+      resourceUtil.resolveResourceFile((File) any, (ResourceFileType) any);
+      result = new Delegate<File>() {
+        @SuppressWarnings("unused")
+        File resolveResourceFile(File file, ResourceFileType resourceFileType) {
+          return file;
+        }
+      };
+      minTimes = 0;
+    }};
+    // @formatter:on
   }
 
   @Test
@@ -131,6 +145,63 @@ public class WriteUtilTest {
     verifyResourceUtilSave(new File(resourceFileBase, "repeated-2-cr"), 1);
   }
 
+  @Test
+  public void writeResourcesIndividualAndComposite_withUnchangedContent_shouldNotWrite() throws IOException {
+    // Given
+    klb.addToItems(new ConfigMapBuilder().withNewMetadata().withName("cm-1").endMetadata().build());
+    // @formatter:off
+    new Expectations() {{
+      resourceUtil.hasSameContent((File) any, any, null); result = true;
+    }};
+    // @formatter:on
+    // When
+    WriteUtil.writeResourcesIndividualAndComposite(klb.build(), resourceFileBase, null, log);
+    // Then
+    verifyResourceUtilSave(null, 0);
+    // @formatter:off
+    new Verifications() {{
+      log.info("Resource files: %d written, %d unchanged, %d removed", 0, 2, 0); times = 1;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void writeResourcesIndividualAndComposite_withStaleResources_shouldRemoveThem() throws IOException {
+    // Given
+    final File cm = new File(resourceFileBase, "cm-1-configmap.yml");
+    final File stale = new File(resourceFileBase, "stale-configmap.yml");
+    final File other = new File(resourceFileBase, "not-a-resource.txt");
+    assertThat(stale.createNewFile() && other.createNewFile()).isTrue();
+    klb.addToItems(new ConfigMapBuilder().withNewMetadata().withName("cm-1").endMetadata().build());
+    mockResourceUtilSave(cm);
+    // When
+    WriteUtil.writeResourcesIndividualAndComposite(klb.build(), resourceFileBase, null, log);
+    // Then
+    assertThat(stale).doesNotExist();
+    assertThat(other).exists();
+    // @formatter:off
+    new Verifications() {{
+      log.info("Resource files: %d written, %d unchanged, %d removed", 2, 0, 1); times = 1;
+    }};
+    // @formatter:on
+  }
+
+  @Test
+  public void writeResourcesIndividualAndComposite_withNonExistentTargetDirectory_shouldCreateItBeforeWriting() throws IOException {
+    // Given
+    final File nonExistentTarget = new File(resourceFileBase, "non-existent");
+    klb.addToItems(
+        new ConfigMapBuilder().withNewMetadata().withName("cm-1").endMetadata().build(),
+        new SecretBuilder().withNewMetadata().withName("secret-1").endMetadata().build()
+    );
+    // When
+    WriteUtil.writeResourcesIndividualAndComposite(klb.build(), nonExistentTarget, null, log);
+    // Then
+    assertThat(nonExistentTarget).isDirectory();
+    verifyResourceUtilSave(new File(nonExistentTarget, "cm-1-configmap"), 1);
+    verifyResourceUtilSave(new File(nonExistentTarget, "secret-1-secret"), 1);
+  }
+
   private void mockResourceUtilSave(Object returnValue) throws IOException {
     // @formatter:off
     new Expectations() {{
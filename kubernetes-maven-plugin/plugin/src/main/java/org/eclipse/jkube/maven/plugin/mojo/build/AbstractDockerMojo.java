@@ -21,6 +21,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
@@ -193,6 +194,10 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.docker.pull.registry")
     protected String pullRegistry;
 
+    // Registry to use for push operations if no registry is specified
+    @Parameter(property = "jkube.docker.push.registry")
+    protected String pushRegistry;
+
     /**
      * Build mode when build is performed.
      * Can be either "s2i" for an s2i binary build mode (in case of OpenShift) or
@@ -202,6 +207,41 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.build.strategy")
     protected JKubeBuildStrategy buildStrategy;
 
+    /**
+     * Whether JIB builds should push the image directly to its registry (with all of its tags) instead of
+     * creating an image tarball to be pushed later on by the push goal.
+     */
+    @Parameter(property = "jkube.build.jib.pushOnBuild", defaultValue = "false")
+    protected boolean jibPushOnBuild;
+
+    /**
+     * Whether JIB builds should split each assembly layer into dependencies, snapshot dependencies, resources and
+     * classes layers, so that unchanged layers are reused.
+     */
+    @Parameter(property = "jkube.build.jib.splitLayers", defaultValue = "false")
+    protected boolean jibSplitLayers;
+
+    /**
+     * Whether JIB builds should use a fixed image creation time, so that rebuilding unchanged sources produces the
+     * same image digest.
+     */
+    @Parameter(property = "jkube.build.jib.reproducible", defaultValue = "false")
+    protected boolean jibReproducible;
+
+    /**
+     * Directory for the JIB base image layers cache, it can be persisted and shared between builds to avoid pulling
+     * the base image layers again (defaults to JIB's user-level cache).
+     */
+    @Parameter(property = "jkube.build.jib.baseImageCache")
+    protected File jibBaseImageCache;
+
+    /**
+     * Directory for the JIB application layers cache, it can be persisted so that unchanged application layers
+     * are not rebuilt (defaults to a temporary directory for each build).
+     */
+    @Parameter(property = "jkube.build.jib.applicationCache")
+    protected File jibApplicationCache;
+
     /**
      * Profile to use. A profile contains the enrichers and generators to
      * use as well as their configuration. Profiles are looked up
@@ -361,6 +401,10 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.watch.postExec")
     protected String watchPostExec;
 
+    // Whether to only copy the files whose content changed (copy mode)
+    @Parameter(property = "jkube.watch.deltaSync", defaultValue = "false")
+    protected boolean watchDeltaSync;
+
     // Whether to keep the containers afters stopping (start/watch/stop)
     @Parameter(property = "jkube.watch.keepContainer", defaultValue = "false")
     protected boolean keepContainer;
@@ -476,21 +520,22 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     }
 
     /**
-     * Helper method to process an ImageConfiguration.
+     * Helper method to check whether an ImageConfiguration should be forwarded to build and tag.
      *
-     * @param aImageConfig ImageConfiguration that would be forwarded to build and tag
-     * @throws MojoExecutionException
+     * @param aImageConfig ImageConfiguration to check
+     * @return true if the image should be built
      */
-    private void processImageConfig(ImageConfiguration aImageConfig) throws MojoExecutionException {
+    private boolean shouldBuildImage(ImageConfiguration aImageConfig) {
         BuildConfiguration buildConfig = aImageConfig.getBuildConfiguration();
 
         if (buildConfig != null) {
             if (buildConfig.getSkip()) {
                 log.info("%s : Skipped building", aImageConfig.getDescription());
             } else {
-                buildAndTag(aImageConfig);
+                return true;
             }
         }
+        return false;
     }
 
     protected File getAndEnsureOutputDirectory() {
@@ -601,9 +646,15 @@ public abstract class AbstractDockerMojo extends AbstractMojo
         // Check for build plugins
         executeBuildPlugins();
 
-        // Iterate over all the ImageConfigurations and process one by one
+        // Iterate over all the ImageConfigurations and build the ones that aren't skipped
+        final List<ImageConfiguration> imagesToBuild = new ArrayList<>();
         for (ImageConfiguration imageConfig : getResolvedImages()) {
-            processImageConfig(imageConfig);
+            if (shouldBuildImage(imageConfig)) {
+                imagesToBuild.add(imageConfig);
+            }
+        }
+        if (!imagesToBuild.isEmpty()) {
+            buildAndTag(imagesToBuild);
         }
     }
 
@@ -626,7 +677,7 @@ public abstract class AbstractDockerMojo extends AbstractMojo
         return true;
     }
 
-    private void buildAndTag(ImageConfiguration imageConfig)
+    private void buildAndTag(List<ImageConfiguration> imageConfigs)
             throws MojoExecutionException {
 
         try {
@@ -634,7 +685,7 @@ public abstract class AbstractDockerMojo extends AbstractMojo
             EnvUtil.storeTimestamp(getBuildTimestampFile(project.getBuild().getDirectory(), DOCKER_BUILD_TIMESTAMP),
                     getBuildTimestamp(getPluginContext(), CONTEXT_KEY_BUILD_TIMESTAMP, project.getBuild().getDirectory(), DOCKER_BUILD_TIMESTAMP));
 
-            jkubeServiceHub.getBuildService().build(imageConfig);
+            jkubeServiceHub.getBuildService().buildAll(imageConfigs);
 
         } catch (Exception ex) {
             throw new MojoExecutionException("Failed to execute the build", ex);
@@ -650,6 +701,12 @@ public abstract class AbstractDockerMojo extends AbstractMojo
                 .buildDirectory(project.getBuild().getDirectory())
                 .resourceConfig(resources)
                 .resourceDir(resourceDir)
+                .jibPushOnBuild(jibPushOnBuild)
+                .jibPushRegistryConfig(jibPushOnBuild ? getRegistryConfig(pushRegistry) : null)
+                .jibSplitLayers(jibSplitLayers)
+                .jibReproducible(jibReproducible)
+                .jibBaseImageCacheDirectory(jibBaseImageCache)
+                .jibApplicationCacheDirectory(jibApplicationCache)
                 .attacher((classifier, destFile) -> {
                     if (destFile.exists()) {
                         projectHelper.attachArtifact(project, "yml", classifier, destFile);
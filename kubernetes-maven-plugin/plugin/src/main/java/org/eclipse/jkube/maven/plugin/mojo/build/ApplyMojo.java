@@ -119,6 +119,21 @@ public class ApplyMojo extends AbstractJKubeMojo implements ManifestProvider {
     @Parameter(property = "jkube.deploy.jsonLogDir", defaultValue = "${basedir}/target/jkube/applyJson")
     private File jsonLogDir;
 
+    /**
+     * Number of threads used to apply resources concurrently. When greater than 1, resources are grouped into
+     * dependency tiers (Namespace, CRD, RBAC, ConfigMap/Secret, Service, controllers, Route/Ingress) and the
+     * resources of each tier are applied in parallel.
+     */
+    @Parameter(property = "jkube.deploy.applyThreads", defaultValue = "1")
+    private int applyThreads;
+
+    /**
+     * Should we use Kubernetes server-side apply to create/update resources? Resources are sent to the cluster
+     * without being read first. Kinds which can't be server-side applied fall back to the standard strategy.
+     */
+    @Parameter(property = "jkube.deploy.serverSideApply", defaultValue = "false")
+    private boolean serverSideApply;
+
     /**
      * How many seconds to wait for a URL to be generated for a service
      */
@@ -235,6 +250,8 @@ public class ApplyMojo extends AbstractJKubeMojo implements ManifestProvider {
         applyService.setRollingUpgrade(rollingUpgrades);
         applyService.setRollingUpgradePreserveScale(isRollingUpgradePreserveScale());
         applyService.setRecreateMode(recreate);
+        applyService.setApplyThreads(applyThreads);
+        applyService.setServerSideApply(serverSideApply);
         applyService.setNamespace(namespace);
         applyService.setFallbackNamespace(
                 Optional.ofNullable(resources)
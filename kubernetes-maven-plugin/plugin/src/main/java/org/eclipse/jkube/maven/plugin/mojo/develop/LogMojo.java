@@ -39,6 +39,19 @@ public class LogMojo extends ApplyMojo {
   private String logContainerName;
   @Parameter(property = "jkube.log.pod")
   private String logPodName;
+  /**
+   * Follow the logs of all the pods and containers of the app at once instead of only those of the newest pod.
+   * Interrupted logs are resumed since the (local) time of their last line, so a clock skew with the cluster
+   * nodes may cause lines to be skipped or repeated.
+   */
+  @Parameter(property = "jkube.log.aggregate", defaultValue = "false")
+  private boolean logAggregate;
+  /**
+   * Maximum number of pod container logs followed at the same time when aggregating the logs, the logs of any
+   * further containers are not followed.
+   */
+  @Parameter(property = "jkube.log.aggregateThreads", defaultValue = "10")
+  private int logAggregateThreads;
 
   @Override
   protected void applyEntities(final KubernetesClient kubernetes, String fileName, final Collection<HasMetadata> entities) {
@@ -59,6 +72,8 @@ public class LogMojo extends ApplyMojo {
         .log(log)
         .logContainerName(logContainerName)
         .podName(logPodName)
+        .aggregate(logAggregate)
+        .aggregateThreads(logAggregateThreads)
         .newPodLog(createLogger("[[C]][NEW][[C]] "))
         .oldPodLog(createLogger("[[R]][OLD][[R]] "));
   }
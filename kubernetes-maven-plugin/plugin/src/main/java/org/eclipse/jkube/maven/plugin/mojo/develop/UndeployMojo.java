@@ -66,6 +66,12 @@ public class UndeployMojo extends AbstractJKubeMojo implements ManifestProvider
   @Parameter(property = "jkube.namespace")
   protected String namespace;
 
+  /**
+   * Number of threads used to delete resources concurrently
+   */
+  @Parameter(property = "jkube.undeploy.threads", defaultValue = "1")
+  protected int undeployThreads;
+
   @Override
   public File getKubernetesManifest() {
     return kubernetesManifest;
@@ -95,8 +101,8 @@ public class UndeployMojo extends AbstractJKubeMojo implements ManifestProvider
     final File environmentResourceDir = ResourceUtil.getFinalResourceDir(resourceDir, environment);
     final String fallbackNamespace = Optional.ofNullable(resources)
             .map(ResourceConfig::getNamespace).orElse(clusterAccess.getNamespace());
-    jkubeServiceHub.getUndeployService()
-        .undeploy(fallbackNamespace, environmentResourceDir, resources, getManifestsToUndeploy().toArray(new File[0]));
+    jkubeServiceHub.getUndeployService().undeploy(undeployThreads, fallbackNamespace, environmentResourceDir, resources,
+        getManifestsToUndeploy().toArray(new File[0]));
   }
 
   protected List<File> getManifestsToUndeploy() {
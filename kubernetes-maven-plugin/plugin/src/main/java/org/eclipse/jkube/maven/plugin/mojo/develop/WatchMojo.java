@@ -164,6 +164,7 @@ public class WatchMojo extends AbstractDockerMojo implements ManifestProvider {
                 .watchInterval(watchInterval)
                 .watchMode(watchMode)
                 .watchPostExec(watchPostExec)
+                .deltaSync(watchDeltaSync)
                 .autoCreateCustomNetworks(autoCreateCustomNetworks)
                 .keepContainer(keepContainer)
                 .keepRunning(keepRunning)
@@ -16,6 +16,7 @@ package org.eclipse.jkube.maven.plugin.mojo.build;
 import mockit.Expectations;
 import mockit.Mocked;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.settings.Settings;
 import org.eclipse.jkube.kit.config.resource.OpenshiftBuildConfig;
 import org.eclipse.jkube.kit.config.resource.ResourceConfig;
 import org.eclipse.jkube.kit.config.service.BuildServiceConfig;
@@ -65,4 +66,39 @@ public class BuildMojoTest {
         assertThat(buildServiceConfig.getResourceConfig().getOpenshiftBuildConfig().getRequests()).containsEntry("memory", "1Gi");
         assertThat(buildServiceConfig.getResourceDir().getPath()).isEqualTo("src/main/jkube");
     }
+
+    @Test
+    public void buildServiceConfigBuilder_withPushRegistry_shouldUsePushRegistryForJibPushOnBuild() {
+        // Given
+        BuildMojo buildMojo = new BuildMojo();
+        buildMojo.project = mavenProject;
+        buildMojo.settings = new Settings();
+        buildMojo.jibPushOnBuild = true;
+        buildMojo.registry = "registry.example.com";
+        buildMojo.pushRegistry = "push-registry.example.com";
+
+        // When
+        BuildServiceConfig buildServiceConfig = buildMojo.buildServiceConfigBuilder().build();
+
+        // Then
+        assertThat(buildServiceConfig.getJibPushRegistryConfig())
+                .hasFieldOrPropertyWithValue("registry", "push-registry.example.com");
+    }
+
+    @Test
+    public void buildServiceConfigBuilder_withoutPushRegistry_shouldFallbackToRegistryForJibPushOnBuild() {
+        // Given
+        BuildMojo buildMojo = new BuildMojo();
+        buildMojo.project = mavenProject;
+        buildMojo.settings = new Settings();
+        buildMojo.jibPushOnBuild = true;
+        buildMojo.registry = "registry.example.com";
+
+        // When
+        BuildServiceConfig buildServiceConfig = buildMojo.buildServiceConfigBuilder().build();
+
+        // Then
+        assertThat(buildServiceConfig.getJibPushRegistryConfig())
+                .hasFieldOrPropertyWithValue("registry", "registry.example.com");
+    }
 }
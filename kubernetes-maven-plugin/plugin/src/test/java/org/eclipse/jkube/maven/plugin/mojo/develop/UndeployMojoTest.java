@@ -92,10 +92,25 @@ public class UndeployMojoTest {
         .hasFieldOrPropertyWithValue("namespace", "custom-namespace");
   }
 
+  @Test
+  public void executeWithUndeployThreads() throws Exception {
+    // Given
+    undeployMojo.undeployThreads = 4;
+    // When
+    undeployMojo.execute();
+    // Then
+    // @formatter:off
+    new Verifications() {{
+      jKubeServiceHub.getUndeployService().undeploy(4, null, mockResourceDir, withNotNull(), mockManifest);
+      times = 1;
+    }};
+    // @formatter:on
+  }
+
   private void assertUndeployServiceUndeployWasCalled() throws Exception {
     // @formatter:off
     new Verifications() {{
-      jKubeServiceHub.getUndeployService().undeploy(null, mockResourceDir, withNotNull(), mockManifest);
+      jKubeServiceHub.getUndeployService().undeploy(anyInt, null, mockResourceDir, withNotNull(), mockManifest);
       times = 1;
     }};
     // @formatter:on
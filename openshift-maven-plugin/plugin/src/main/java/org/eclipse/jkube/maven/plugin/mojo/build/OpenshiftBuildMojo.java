@@ -58,6 +58,20 @@ public class OpenshiftBuildMojo extends BuildMojo {
     @Parameter(property = "jkube.s2i.imageStreamLookupPolicyLocal", defaultValue = "true")
     protected boolean s2iImageStreamLookupPolicyLocal = true;
 
+    /**
+     * Stream the S2I binary build archive to the cluster while it's being created instead of
+     * writing it to the build directory first.
+     */
+    @Parameter(property = "jkube.s2i.streamBuildArchive", defaultValue = "false")
+    protected boolean s2iStreamBuildArchive;
+
+    /**
+     * Number of threads used to submit the S2I binary builds of the different images concurrently. When greater
+     * than 1, all of the builds run in the cluster at the same time and are followed through a single watch.
+     */
+    @Parameter(property = "jkube.s2i.buildThreads", defaultValue = "1")
+    protected int s2iBuildThreads;
+
     /**
      * Allow to specify in which registry to push the container image at the end of the build.
      * If the output kind is ImageStreamTag, then the image will be pushed to the internal OpenShift registry.
@@ -96,6 +110,8 @@ public class OpenshiftBuildMojo extends BuildMojo {
             .openshiftPullSecret(openshiftPullSecret)
             .s2iBuildNameSuffix(s2iBuildNameSuffix)
             .s2iImageStreamLookupPolicyLocal(s2iImageStreamLookupPolicyLocal)
+            .s2iStreamBuildArchive(s2iStreamBuildArchive)
+            .s2iBuildThreads(s2iBuildThreads)
             .openshiftPushSecret(openshiftPushSecret)
             .buildOutputKind(buildOutputKind);
     }